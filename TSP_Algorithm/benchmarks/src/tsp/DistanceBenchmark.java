@@ -0,0 +1,59 @@
+package tsp;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Mesafe sorguları: City.distanceTo (önbelleksiz, her çağrıda hesaplanır) ve
+// TspInstance.distance (boyuta göre seçilen matris / komşu tablosu önbelleği).
+// Her çağrı tur boyunca ardışık şehir çiftleri için 1024 sorgu yapar.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DistanceBenchmark {
+    private static final int QUERIES = 1024;
+
+    private City[] cities;
+    private int[] pairs;
+
+    @Setup(Level.Trial)
+    public void setup(InstanceState state) {
+        int n = state.instance.size();
+        cities = new City[n];
+        for (int i = 0; i < n; i++) {
+            cities[i] = state.instance.city(i);
+        }
+        // Tur komşuları ve aday komşular karışık: yerel aramadaki sorgu deseni
+        SplittableRandom rand = new SplittableRandom(7);
+        pairs = new int[2 * QUERIES];
+        int[] order = state.parent1.order;
+        for (int q = 0; q < QUERIES; q++) {
+            int p = rand.nextInt(n);
+            int a = order[p];
+            pairs[2 * q] = a;
+            pairs[2 * q + 1] = q % 2 == 0
+                    ? order[(p + 1) % n]
+                    : state.instance.candidates[a * state.instance.candidateCount + rand.nextInt(state.instance.candidateCount)];
+        }
+    }
+
+    @Benchmark
+    public void cityDistanceUncached(Blackhole bh) {
+        for (int q = 0; q < QUERIES; q++) {
+            bh.consume(cities[pairs[2 * q]].distanceTo(cities[pairs[2 * q + 1]]));
+        }
+    }
+
+    @Benchmark
+    public void instanceDistanceCached(InstanceState state, Blackhole bh) {
+        TspInstance instance = state.instance;
+        for (int q = 0; q < QUERIES; q++) {
+            bh.consume(instance.distance(pairs[2 * q], pairs[2 * q + 1]));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package tsp;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// evolve döngüsünün bir nesli (tek ada): seçilim, çaprazlama, mutasyon ve her
+// çocuk için yerel arama. Popülasyon ve mutasyon oranı Main'deki boyut
+// kurallarıyla aynıdır; popülasyon her ölçümden önce sezgisel turlarla kurulur.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationBenchmark {
+    @Param({"ox", "gpx"})
+    public String crossover;
+
+    private SplittableRandom rand;
+    private Population initial;
+    private Population population;
+    private double mutationRate;
+    private int elitismCount;
+    private GeneticAlgorithm.Workspace workspace;
+
+    @Setup(Level.Trial)
+    public void setup(InstanceState state) {
+        state.options.crossover = crossover;
+        rand = new SplittableRandom(17);
+        int n = state.instance.size();
+        int size = Main.calculatePopulationSize(n, Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        mutationRate = Main.calculateMutationRate(n);
+        elitismCount = Math.max(1, Math.min(20, size - 1));
+        initial = new Population(state.instance, size, rand.split());
+        workspace = new GeneticAlgorithm.Workspace(state.instance, state.options);
+        GeneticAlgorithm.initializePopulationWithHeuristicTours(initial, state.options, rand.split(), workspace, null);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        population = new Population(new ArrayList<>(initial.tours.size()));
+        for (Tour tour : initial.tours) {
+            population.tours.add(tour.copy());
+        }
+    }
+
+    @Benchmark
+    public Population evolveGeneration(InstanceState state) {
+        GeneticAlgorithm.evolveGeneration(population, elitismCount, mutationRate, state.options, rand, workspace, null);
+        return population;
+    }
+}
@@ -0,0 +1,37 @@
+package tsp;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Benchmark'ların ortak durumu: data/ altındaki veri seti bir kez yüklenir.
+// Benchmark'lar TSP_Algorithm klasöründen çalıştırılmalıdır (göreli data/ yolu).
+@State(Scope.Benchmark)
+public class InstanceState {
+    @Param({"tsp_51_1", "tsp_150_2", "tsp_318_2", "tsp_3038_1", "tsp_14051_1", "tsp_85900_1"})
+    public String file;
+
+    public TspInstance instance;
+    public Options options;
+    // Sabit tohumlu rastgele turlar: her çatalda aynı girdiler
+    public Tour parent1;
+    public Tour parent2;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        instance = Main.loadCities("data/" + file);
+        options = new Options();
+        options.file = file;
+        options.seed = 42;
+        SplittableRandom rand = new SplittableRandom(options.seed);
+        parent1 = new Tour(instance, rand);
+        parent2 = new Tour(instance, rand);
+        parent1.getDistance();
+        parent2.getDistance();
+    }
+}
@@ -0,0 +1,69 @@
+package tsp;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Toplu mesafe çekirdekleri: skaler ve Vector API uygulamaları aynı girdilerde.
+// "oracleTourLength" çekirdeklerden önceki yol (mesafe önbelleği üzerinden tur uzunluğu).
+// Vektör uygulaması yoksa (JDK 17 öncesi) "vector" denemeleri başarısız olur.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class KernelBenchmark {
+    @Param({"tsp_3038_1", "tsp_14051_1", "tsp_85900_1"})
+    public String file;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private TspInstance instance;
+    private DistanceKernels impl;
+    private int[] order;
+    private double[] row;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        impl = kernels.equals("vector") ? DistanceKernels.vector() : DistanceKernels.scalar();
+        if (impl == null) {
+            throw new IllegalStateException("Vector API kullanılamıyor");
+        }
+        TspInstance loaded = Main.loadCities("data/" + file);
+        instance = new TspInstance(loaded.xs, loaded.ys, impl);
+        order = new Tour(instance, new SplittableRandom(42)).order;
+        row = new double[instance.size()];
+    }
+
+    @Benchmark
+    public double oracleTourLength() {
+        int n = order.length;
+        double total = instance.distance(order[n - 1], order[0]);
+        for (int i = 1; i < n; i++) {
+            total += instance.distance(order[i - 1], order[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double tourLength() {
+        return impl.tourLength(instance.xs, instance.ys, order);
+    }
+
+    @Benchmark
+    public double[] distancesTo() {
+        impl.distancesTo(instance.xs[0], instance.ys[0], instance.xs, instance.ys, row.length, row);
+        return row;
+    }
+
+    // En yakın komşu turu: aday listesi tükenince k-d ağacı yaprakları çekirdekle taranır
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int[] nearestNeighborTour() {
+        return GeneticAlgorithm.nearestNeighborOrder(instance, 0);
+    }
+}
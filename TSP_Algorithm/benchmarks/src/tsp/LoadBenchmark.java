@@ -0,0 +1,35 @@
+package tsp;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Veri dosyasının yüklenmesi: ayrıştırma, k-d ağacı, aday listeleri ve mesafe
+// stratejisi dahil. Metin dosyası ve ikili yan dosya ayrı ölçülür.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoadBenchmark {
+    @Param({"tsp_51_1", "tsp_150_2", "tsp_318_2", "tsp_3038_1", "tsp_14051_1", "tsp_85900_1"})
+    public String file;
+
+    @Param({"false", "true"})
+    public boolean binaryCache;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if (binaryCache) {
+            // İkili yan dosya ölçümden önce yazılsın
+            Main.loadCities("data/" + file, true);
+        }
+    }
+
+    @Benchmark
+    public TspInstance loadCities() throws IOException {
+        return Main.loadCities("data/" + file, binaryCache);
+    }
+}
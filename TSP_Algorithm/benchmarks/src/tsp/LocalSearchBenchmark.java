@@ -0,0 +1,68 @@
+package tsp;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Yerel arama: rastgele bir turdan ve çaprazlama çocuğundan yerel optimuma kadar,
+// ve popülasyonun sezgisel turlarla başlatılması. Her çağrı yeni bir girdi ister,
+// bu yüzden tek atımlık ölçüm kullanılır.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class LocalSearchBenchmark {
+    @Param({"2opt", "2opt+oropt", "or3opt"})
+    public String localSearch;
+
+    private SplittableRandom rand;
+    private Tour randomTour;
+    private Tour child;
+    private Population population;
+    // Motorlar GA'daki gibi çağrılar arasında yeniden kullanılır
+    private GeneticAlgorithm.Workspace workspace;
+
+    @Setup(Level.Trial)
+    public void setup(InstanceState state) {
+        rand = new SplittableRandom(13);
+        state.options.localSearch = localSearch;
+        workspace = new GeneticAlgorithm.Workspace(state.instance, state.options);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare(InstanceState state) {
+        randomTour = new Tour(state.instance, rand);
+        randomTour.getDistance();
+        // Çaprazlama çocuğu: GA içindeki tipik girdi (çoğu kenar zaten iyi)
+        Tour parent = new Tour(state.instance, GeneticAlgorithm.nearestNeighborOrder(state.instance, 0));
+        child = workspace.crossover.orderCrossover(parent, state.parent1, rand);
+        child.getDistance();
+        int size = Main.calculatePopulationSize(state.instance.size(), Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        population = new Population(new ArrayList<>(size));
+        for (int i = 0; i < size; i++) {
+            population.tours.add(state.parent1.copy());
+        }
+    }
+
+    @Benchmark
+    public Tour localOptimizationRandom(InstanceState state) {
+        GeneticAlgorithm.localOptimization(randomTour, null, state.options, workspace, null);
+        return randomTour;
+    }
+
+    @Benchmark
+    public Tour localOptimizationChild(InstanceState state) {
+        GeneticAlgorithm.localOptimization(child, null, state.options, workspace, null);
+        return child;
+    }
+
+    @Benchmark
+    public Population initializePopulationWithHeuristicTours(InstanceState state) {
+        GeneticAlgorithm.initializePopulationWithHeuristicTours(population, state.options, rand, workspace, null);
+        return population;
+    }
+}
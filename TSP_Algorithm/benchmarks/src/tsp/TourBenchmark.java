@@ -0,0 +1,51 @@
+package tsp;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Tur düzeyindeki sıcak yollar: tam uzunluk hesabı, çaprazlama ve mutasyon
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TourBenchmark {
+    private SplittableRandom rand;
+    private Tour tour;
+    private Crossover crossover;
+    private int[] position;
+
+    @Setup(Level.Trial)
+    public void setup(InstanceState state) {
+        rand = new SplittableRandom(11);
+        tour = state.parent1.copy();
+        crossover = new Crossover(state.instance);
+        position = new int[state.instance.size()];
+    }
+
+    @Benchmark
+    public double getDistance() {
+        tour.resetDistance();
+        return tour.getDistance();
+    }
+
+    @Benchmark
+    public Tour crossover(InstanceState state) {
+        return crossover.orderCrossover(state.parent1, state.parent2, rand);
+    }
+
+    @Benchmark
+    public Tour crossoverGpx(InstanceState state) {
+        return crossover.partitionCrossover(state.parent1, state.parent2);
+    }
+
+    // Mutasyon turu yerinde değiştirir; uzunluk değişen kenarlarla güncellenir
+    @Benchmark
+    public double mutate() {
+        tour.mutate(rand, position);
+        return tour.getDistance();
+    }
+}
@@ -0,0 +1,105 @@
+package tsp;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// DistanceKernels'in Vector API uygulaması. JDK 17+ ile ayrı derlenir (solver/pom.xml,
+// "vector" profili) ve yalnızca DistanceKernels.vector() üzerinden yansımayla yüklenir;
+// çalışma zamanında --add-modules jdk.incubator.vector gerekir.
+final class VectorDistanceKernels implements DistanceKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final DistanceKernels SCALAR = DistanceKernels.scalar();
+    private static final int LANES = SPECIES.length();
+    // Koordinatlar önbelleğe sığıyorsa skaler döngü toplamalı (gather) okumadan hızlıdır
+    static final int GATHER_MIN_CITIES = 8192;
+
+    VectorDistanceKernels() {
+        if (LANES < 2) {
+            throw new UnsupportedOperationException("SIMD genişliği yok");
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vektör (" + LANES + " x double)";
+    }
+
+    @Override
+    public double tourLength(double[] xs, double[] ys, int[] order) {
+        int size = order.length;
+        if (size < GATHER_MIN_CITIES) {
+            return SCALAR.tourLength(xs, ys, order);
+        }
+        // (order[i], order[i + 1]) kenarları LANES'lik gruplar halinde; koordinatlar toplanarak (gather) okunur
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        int i = 0;
+        int bound = SPECIES.loopBound(size - 1);
+        for (; i < bound; i += LANES) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, 0, order, i + 1)
+                    .sub(DoubleVector.fromArray(SPECIES, xs, 0, order, i));
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, 0, order, i + 1)
+                    .sub(DoubleVector.fromArray(SPECIES, ys, 0, order, i));
+            sum = sum.add(dx.mul(dx).add(dy.mul(dy)).sqrt());
+        }
+        double total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < size - 1; i++) {
+            total += distance(xs, ys, order[i], order[i + 1]);
+        }
+        return total + distance(xs, ys, order[size - 1], order[0]);
+    }
+
+    @Override
+    public void distancesTo(double x, double y, double[] xs, double[] ys, int count, double[] out) {
+        int j = 0;
+        int bound = SPECIES.loopBound(count);
+        for (; j < bound; j += LANES) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, j).sub(x);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, j).sub(y);
+            dx.mul(dx).add(dy.mul(dy)).sqrt().intoArray(out, j);
+        }
+        for (; j < count; j++) {
+            double dx = xs[j] - x;
+            double dy = ys[j] - y;
+            out[j] = Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+
+    @Override
+    public int nearest(double x, double y, double[] xs, double[] ys, boolean[] skip, int from, int to, double limit) {
+        int best = -1;
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, i).sub(x);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, i).sub(y);
+            DoubleVector d = dx.mul(dx).add(dy.mul(dy));
+            VectorMask<Double> better = d.lt(limit).andNot(VectorMask.fromArray(SPECIES, skip, i));
+            if (better.anyTrue()) {
+                // Gruptaki en küçük değer ve onu veren ilk şerit
+                double min = d.reduceLanes(VectorOperators.MIN, better);
+                best = i + d.eq(min).and(better).firstTrue();
+                limit = min;
+            }
+        }
+        for (; i < to; i++) {
+            if (skip[i]) {
+                continue;
+            }
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double d = dx * dx + dy * dy;
+            if (d < limit) {
+                limit = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double distance(double[] xs, double[] ys, int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,78 @@
+package tsp;
+
+// Dizi tabanlı tur: next/prev/between O(1), reverse O(n) (kısa taraf çevrilir).
+// Turun kendi int[] dizisi üzerinde doğrudan çalışır.
+public class ArrayTourList implements TourList {
+    private final int[] pos;   // şehir -> tur içindeki konum
+    private int[] order;
+    private int n;
+
+    public ArrayTourList(int size) {
+        this.pos = new int[size];
+    }
+
+    @Override
+    public void load(int[] order) {
+        this.order = order;
+        this.n = order.length;
+        for (int i = 0; i < n; i++) {
+            pos[order[i]] = i;
+        }
+    }
+
+    @Override
+    public void store(int[] target) {
+        if (target != order) {
+            System.arraycopy(order, 0, target, 0, n);
+        }
+    }
+
+    @Override
+    public int next(int city) {
+        int p = pos[city] + 1;
+        return order[p == n ? 0 : p];
+    }
+
+    @Override
+    public int prev(int city) {
+        int p = pos[city];
+        return order[p == 0 ? n - 1 : p - 1];
+    }
+
+    @Override
+    public boolean between(int a, int b, int c) {
+        int pa = pos[a], pb = pos[b], pc = pos[c];
+        if (pa <= pc) {
+            return pa <= pb && pb <= pc;
+        }
+        return pb >= pa || pb <= pc;
+    }
+
+    @Override
+    public void reverse(int from, int to) {
+        int i = pos[from];
+        int j = pos[to];
+        int length = j - i;
+        if (length < 0) {
+            length += n;
+        }
+        length++;
+        if (length * 2 > n) {
+            // Tamamlayıcı yolu çevirmek aynı turu verir
+            int temp = i;
+            i = j + 1 == n ? 0 : j + 1;
+            j = temp == 0 ? n - 1 : temp - 1;
+            length = n - length;
+        }
+        for (int s = 0; s < length / 2; s++) {
+            int ci = order[i];
+            int cj = order[j];
+            order[i] = cj;
+            pos[cj] = i;
+            order[j] = ci;
+            pos[ci] = j;
+            i = i + 1 == n ? 0 : i + 1;
+            j = j == 0 ? n - 1 : j - 1;
+        }
+    }
+}
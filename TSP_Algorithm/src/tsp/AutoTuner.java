@@ -0,0 +1,284 @@
+package tsp;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// Çevrimiçi parametre ayarı (--autotune). Main'deki şehir sayısına bağlı sabit basamaklar yalnızca
+// başlangıç değeridir:
+// - Deneme dönemlerinde aday ada (iş parçacığı) sayılarıyla sırayla birer nesil evrilir ve saniye başına
+//   üretilen çocuk sayısı ölçülür; en verimli ada sayısı seçilir.
+// - Popülasyon boyutu, ölçülen verimle süre sınırına TARGET_GENERATIONS nesil sığacak şekilde seçilir
+//   ve çalışma boyunca verim değiştikçe yeniden ayarlanır.
+// - Mutasyon oranı ve çocuk başına yerel arama bütçesi her göç döneminden sonra, dönemin saniye başına
+//   göreli iyileşmesini ödül alan iki çok kollu haydutla seçilir. İyileşme zamanla azaldığından
+//   ödüller üstel ortalamayla tutulur ve kollar aralıklarla yeniden denenir.
+// Kararlar ölçülen sürelere bağlı olduğundan aynı tohum aynı sonucu vermez.
+public class AutoTuner {
+    // Deneme dönemlerine ayrılan süre payı (süre sınırı yoksa PILOT_ROUNDS tur)
+    private static final double PILOT_SHARE = 0.03;
+    private static final int PILOT_ROUNDS = 3;
+    // Süre sınırı boyunca hedeflenen nesil sayısı
+    private static final int TARGET_GENERATIONS = 300;
+    private static final int MIN_POPULATION = 20;
+    private static final int MAX_POPULATION = 1000;
+    // Popülasyon boyutu her RESIZE_EVERY dönemde gözden geçirilir; hedef bu oranda farklıysa değişir
+    private static final int RESIZE_EVERY = 10;
+    private static final double RESIZE_RATIO = 1.33;
+    // Sürenin son kısmında popülasyon değiştirilmez (yeni bireyler olgunlaşamaz)
+    private static final double RESIZE_UNTIL = 0.8;
+    // Yeni ödülün ağırlığı ve rastgele kol deneme aralığı (dönem)
+    private static final double DECAY = 0.3;
+    private static final int EXPLORE_EVERY = 4;
+    // Kollar: temel mutasyon oranının çarpanları ve şehir sayısına bölünerek bulunan hamle bütçeleri
+    // (0: kullanıcının --ls-moves değeri, verilmediyse yerel optimuma kadar); ilk kol varsayılandır
+    private static final double[] MUTATION_SCALES = {1, 2, 0.5};
+    private static final int[] MOVE_DIVISORS = {0, 4, 16};
+    private static final long MIN_MOVES = 50;
+
+    private final Options options;
+    private final Metrics metrics;
+    private final GeneticAlgorithm.Workspaces workspaces;
+    private final SplittableRandom rand;
+    private final int cities;
+    private final double baseMutationRate;
+    private final long baseMoves;
+    private final int baseElitism;
+    // Ayarın başladığı an; süre sınırının tamamı bu andan itibaren sayılır
+    private final long start = System.nanoTime();
+
+    private final double[] mutationRewards = new double[MUTATION_SCALES.length];
+    private final double[] moveRewards = new double[MOVE_DIVISORS.length];
+    private final int[] mutationPlays = new int[MUTATION_SCALES.length];
+    private final int[] movePlays = new int[MOVE_DIVISORS.length];
+    private int mutationArm;
+    private int moveArm;
+    private int epochs;
+    private int islandCount;
+    private int resizes;
+    // Son dönemlerin saniye başına çocuk sayısı (üstel ortalama)
+    private double childrenPerSecond;
+    private int pilotGenerations;
+
+    public AutoTuner(int cities, double mutationRate, int elitismCount, Options options, Metrics metrics,
+            GeneticAlgorithm.Workspaces workspaces, SplittableRandom rand) {
+        this.cities = cities;
+        this.baseMutationRate = mutationRate;
+        this.baseMoves = options.localSearchMoves;
+        this.baseElitism = elitismCount;
+        this.options = options;
+        this.metrics = metrics;
+        this.workspaces = workspaces;
+        this.rand = rand;
+        Arrays.fill(mutationRewards, Double.NaN);
+        Arrays.fill(moveRewards, Double.NaN);
+    }
+
+    public double mutationRate() {
+        return baseMutationRate * MUTATION_SCALES[mutationArm];
+    }
+
+    public int islands() {
+        return islandCount;
+    }
+
+    public int pilotGenerations() {
+        return pilotGenerations;
+    }
+
+    // Popülasyon boyutuna oranlı elit sayısı (Main'in 100 bireye 20 elit oranı)
+    public int elitism(int populationSize) {
+        return Math.max(1, Math.min(baseElitism, populationSize / 5));
+    }
+
+    // Deneme dönemleri: aday ada sayıları sırayla birer nesil evrilir (ilk tur ısınmadır, başlangıç
+    // popülasyonunun pahalı yerel aramaları ölçüme girmez). Deneme nesilleri de gerçek evrimdir;
+    // pop sonunda evrilmiş ve yeniden boyutlandırılmış popülasyonu tutar.
+    public void pilot(Population pop, ExecutorService executor) {
+        List<Integer> candidates = new ArrayList<>();
+        if (options.islands > 0) {
+            candidates.add(options.islands);
+        } else {
+            int cores = Runtime.getRuntime().availableProcessors();
+            for (int c = 1; c < cores; c *= 2) {
+                candidates.add(c);
+            }
+            candidates.add(cores);
+        }
+        long[] children = new long[candidates.size()];
+        long[] nanos = new long[candidates.size()];
+        long[] warmupChildren = new long[candidates.size()];
+        long[] warmupNanos = new long[candidates.size()];
+
+        long now = System.nanoTime();
+        long pilotEnd = Deadline.isSet(options.deadlineNanos)
+                ? Deadline.at(now + (long) ((options.deadlineNanos - now) * PILOT_SHARE))
+                : Deadline.NONE;
+        for (int round = 0; !GeneticAlgorithm.expired(options); round++) {
+            for (int i = 0; i < candidates.size() && !GeneticAlgorithm.expired(options); i++) {
+                int size = pop.tours.size();
+                IslandModel model = new IslandModel(pop, candidates.get(i), elitism(size), mutationRate(), options,
+                        metrics, workspaces, rand.split());
+                long t0 = System.nanoTime();
+                model.runEpoch(pilotGenerations, 1, executor);
+                long elapsed = System.nanoTime() - t0;
+                pop.tours = model.tours();
+                pilotGenerations++;
+                if (round == 0) {
+                    warmupChildren[i] += size - elitism(size);
+                    warmupNanos[i] += elapsed;
+                } else {
+                    children[i] += size - elitism(size);
+                    nanos[i] += elapsed;
+                }
+            }
+            if (round >= 1 && (!Deadline.isSet(pilotEnd) ? round + 1 >= PILOT_ROUNDS : Deadline.passed(pilotEnd))) {
+                break;
+            }
+        }
+
+        // Isınma dışında ölçüm yoksa (çok büyük veri seti veya kısa süre) ısınma turu kullanılır.
+        // Fark %5'ten küçükse daha az ada tercih edilir.
+        int chosen = 0;
+        double bestRate = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            double rate = nanos[i] > 0 ? children[i] * 1e9 / nanos[i]
+                    : warmupNanos[i] > 0 ? warmupChildren[i] * 1e9 / warmupNanos[i] : 0;
+            GeneticAlgorithm.log(options, "\nOtomatik ayar (deneme): %d ada, %.1f çocuk/sn", candidates.get(i), rate);
+            if (rate > bestRate * 1.05) {
+                chosen = i;
+                bestRate = rate;
+            }
+        }
+        islandCount = candidates.get(chosen);
+        childrenPerSecond = bestRate;
+
+        int target = targetSize(pop.tours.size());
+        if (target != pop.tours.size()) {
+            resize(pop, target);
+        }
+        GeneticAlgorithm.log(options, "\nOtomatik ayar: %d ada, popülasyon %d, %d deneme nesli", islandCount,
+                pop.tours.size(), pilotGenerations);
+    }
+
+    // Dönem sonu: ödülü kaydet, sonraki dönemin mutasyon oranını ve yerel arama bütçesini seç.
+    // Popülasyon yeniden boyutlandırılırsa yeni bir ada modeli döner, yoksa verilen model.
+    public IslandModel update(IslandModel islands, int generations, double before, double after, long elapsedNanos) {
+        epochs++;
+        List<Tour> tours = islands.tours();
+        int size = tours.size();
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        double rate = (double) generations * (size - elitism(size)) / seconds;
+        childrenPerSecond = childrenPerSecond == 0 ? rate : childrenPerSecond + DECAY * (rate - childrenPerSecond);
+
+        // Ödül: saniye başına göreli iyileşme
+        double reward = before > after ? (before - after) / before / seconds : 0;
+        reward(mutationRewards, mutationPlays, mutationArm, reward);
+        reward(moveRewards, movePlays, moveArm, reward);
+
+        mutationArm = choose(mutationRewards);
+        moveArm = choose(moveRewards);
+        options.localSearchMoves = moves(moveArm);
+        islands.setMutationRate(mutationRate());
+
+        if (epochs % RESIZE_EVERY != 0 || !Deadline.isSet(options.deadlineNanos)
+                || System.nanoTime() - start > RESIZE_UNTIL * (options.deadlineNanos - start)) {
+            return islands;
+        }
+        int target = targetSize(size);
+        if (target > size * RESIZE_RATIO || target * RESIZE_RATIO < size) {
+            Population pop = new Population(tours);
+            resize(pop, target);
+            resizes++;
+            GeneticAlgorithm.log(options, "\nOtomatik ayar: popülasyon %d -> %d (%.1f çocuk/sn)", size,
+                    pop.tours.size(), childrenPerSecond);
+            return new IslandModel(pop, islandCount, elitism(pop.tours.size()), mutationRate(), options, metrics,
+                    workspaces, rand.split());
+        }
+        return islands;
+    }
+
+    // Yerel arama bütçesini kullanıcının değerine geri al ve kolların kaç dönem seçildiğini yaz
+    public void finish() {
+        options.localSearchMoves = baseMoves;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < MUTATION_SCALES.length; i++) {
+            sb.append(String.format(" %.4f:%d", baseMutationRate * MUTATION_SCALES[i], mutationPlays[i]));
+        }
+        sb.append(" | yerel arama");
+        for (int i = 0; i < MOVE_DIVISORS.length; i++) {
+            sb.append(String.format(" %s:%d", movesText(i), movePlays[i]));
+        }
+        GeneticAlgorithm.log(options, "\nOtomatik ayar (%d dönem, %d yeniden boyutlandırma) - mutasyon%s", epochs,
+                resizes, sb);
+    }
+
+    private static void reward(double[] rewards, int[] plays, int arm, double reward) {
+        plays[arm]++;
+        rewards[arm] = Double.isNaN(rewards[arm]) ? reward : rewards[arm] + DECAY * (reward - rewards[arm]);
+    }
+
+    // Denenmemiş kol varsa o; her EXPLORE_EVERY dönemde bir rastgele kol; yoksa en yüksek ödüllü kol
+    private int choose(double[] rewards) {
+        for (int i = 0; i < rewards.length; i++) {
+            if (Double.isNaN(rewards[i])) {
+                return i;
+            }
+        }
+        if (epochs % EXPLORE_EVERY == 0) {
+            return rand.nextInt(rewards.length);
+        }
+        int best = 0;
+        for (int i = 1; i < rewards.length; i++) {
+            if (rewards[i] > rewards[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private long moves(int arm) {
+        return MOVE_DIVISORS[arm] == 0 ? baseMoves : Math.max(MIN_MOVES, cities / MOVE_DIVISORS[arm]);
+    }
+
+    private String movesText(int arm) {
+        long moves = moves(arm);
+        return moves > 0 ? moves + " hamle" : "yerel optimum";
+    }
+
+    // Ölçülen verimle süre sınırına TARGET_GENERATIONS nesil sığdıran boyut; şehir sayısı, bellek ve ada başına
+    // en az birey sayısıyla sınırlı. Süre sınırı yoksa mevcut boyut korunur.
+    private int targetSize(int current) {
+        if (!Deadline.isSet(options.deadlineNanos) || childrenPerSecond <= 0) {
+            return current;
+        }
+        double seconds = (options.deadlineNanos - start) / 1e9;
+        // Elitler çocuk üretmez: her nesilde boyutun yaklaşık %80'i yenilenir
+        int target = (int) (childrenPerSecond * seconds / TARGET_GENERATIONS / 0.8);
+        // Her tur dizisi 4 bayt/şehir; çift tamponda iki katı. Yığının en fazla dörtte biri kullanılır.
+        long tourBytes = 4L * cities * (options.doubleBuffer ? 2 : 1);
+        // Main'deki basamaklar gibi şehir sayısının yarısıyla da sınırlı (küçük veri setlerinde büyük
+        // popülasyon seçilim baskısını düşürür ve nesil sayısını azaltır)
+        long limit = Math.min(MAX_POPULATION, Math.max(MIN_POPULATION, cities / 2));
+        int memoryLimit = (int) Math.min(limit, Runtime.getRuntime().maxMemory() / 4 / tourBytes);
+        int minimum = Math.max(MIN_POPULATION, islandCount * IslandModel.MIN_ISLAND_SIZE);
+        return Math.max(Math.min(minimum, memoryLimit), Math.min(target, memoryLimit));
+    }
+
+    // Küçültme en iyi bireyleri tutar. Büyütme, yakınsamış bireylerin kopyaları yerine yeni çeşitlilik
+    // getirmek için rastgele şehirden başlayan en yakın komşu turlarını yerel aramadan geçirip ekler.
+    private void resize(Population pop, int target) {
+        List<Tour> tours = new ArrayList<>(pop.tours);
+        tours.sort(Comparator.comparingDouble(Tour::getDistance));
+        if (target < tours.size()) {
+            tours = new ArrayList<>(tours.subList(0, target));
+        } else {
+            TspInstance instance = tours.get(0).instance;
+            while (tours.size() < target && !GeneticAlgorithm.expired(options)) {
+                Tour tour = Tour.wrap(instance, GeneticAlgorithm.nearestNeighborOrder(instance, rand.nextInt(cities)));
+                GeneticAlgorithm.localOptimization(tour, null, options, workspaces.get(0), metrics);
+                tours.add(tour);
+            }
+        }
+        pop.tours = tours;
+    }
+}
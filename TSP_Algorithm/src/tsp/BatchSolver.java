@@ -0,0 +1,198 @@
+package tsp;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// Toplu çözüm: bir klasördeki (veya liste dosyasındaki) tüm veri setleri tek bir
+// JVM'de, GeneticAlgorithm'in ortak iş çalan havuzunda çözülür. İşler büyükten
+// küçüğe gönderilir; büyük veri setleri çekirdek başına bir adaya bölünürken
+// küçükler tek adayla çalışır ve boşta kalan çekirdekleri doldurur.
+public class BatchSolver {
+    // Bu şehir sayısının altındaki veri setleri (ada sayısı verilmemişse) tek adayla çözülür
+    static final int SMALL_INSTANCE_CITIES = 1000;
+
+    // Bir veri setinin sonucu
+    static class Result {
+        String file;
+        int cities;
+        double cost;
+        double seconds;
+        boolean improved;
+        String error;
+    }
+
+    public static void run(Options options) throws IOException {
+        List<Path> files = listInstances(options.batch);
+        if (files.isEmpty()) {
+            System.out.println("Toplu çözüm: çözülecek veri seti bulunamadı: " + options.batch);
+            return;
+        }
+        // Dosya boyutu şehir sayısıyla orantılı: büyük işler önce başlasın
+        Map<Path, Long> sizes = new HashMap<>();
+        for (Path file : files) {
+            sizes.put(file, Files.size(file));
+        }
+        files.sort(Comparator.comparingLong((Path file) -> sizes.get(file)).reversed());
+
+        int cores = GeneticAlgorithm.executor.getParallelism();
+        System.out.println("--------------------------------------------------");
+        System.out.printf("Toplu çözüm: %d veri seti, %d çekirdek, tohum: %d\n", files.size(), cores, options.seed);
+
+        long cpuStart = processCpuNanos();
+        long wallStart = System.nanoTime();
+        long movesBefore = GeneticAlgorithm.totalMovesEvaluated();
+
+        SplittableRandom random = new SplittableRandom(options.seed);
+        AtomicInteger done = new AtomicInteger();
+        List<ForkJoinTask<Result>> tasks = new ArrayList<>(files.size());
+        for (Path file : files) {
+            Options instanceOptions = options.copy();
+            instanceOptions.batch = null;
+            instanceOptions.quiet = true;
+            instanceOptions.file = file.getFileName().toString();
+            instanceOptions.seed = random.nextLong();
+            tasks.add(GeneticAlgorithm.executor.submit(() -> {
+                Result result = solve(file, instanceOptions);
+                report(result, done.incrementAndGet(), files.size());
+                return result;
+            }));
+        }
+
+        List<Result> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<Result> task : tasks) {
+            try {
+                results.add(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Toplu çözüm başarısız oldu", e.getCause());
+            }
+        }
+
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+        long cpuNanos = cpuStart < 0 ? -1 : processCpuNanos() - cpuStart;
+        int failed = 0;
+        long cities = 0;
+        for (Result result : results) {
+            if (result.error != null) {
+                failed++;
+            } else {
+                cities += result.cities;
+            }
+        }
+
+        System.out.println("--------------------------------------------------");
+        System.out.printf("Toplu çözüm tamamlandı: %d veri seti (%d hatalı), toplam %d şehir\n", results.size(), failed,
+                cities);
+        System.out.printf("Duvar saati süresi: %.2f saniye, veri seti/saat: %.1f\n", wallSeconds,
+                results.size() / (wallSeconds / 3600));
+        if (cpuNanos >= 0) {
+            double cpuSeconds = cpuNanos / 1e9;
+            System.out.printf("Toplam CPU süresi: %.2f saniye, ortalama çekirdek kullanımı: %.2f / %d\n", cpuSeconds,
+                    cpuSeconds / wallSeconds, cores);
+        }
+        System.out.printf("Yerel arama: %d hamle değerlendirildi\n", GeneticAlgorithm.totalMovesEvaluated() - movesBefore);
+        System.out.println("--------------------------------------------------");
+    }
+
+    // Tek veri setini çöz ve sonucu kaydet; hata diğer veri setlerini durdurmaz
+    static Result solve(Path file, Options options) {
+        Result result = new Result();
+        result.file = options.file;
+        long start = System.nanoTime();
+        try {
+            Main.startClock(options);
+            TspInstance instance = Main.loadCities(file.toString(), options.binaryCache);
+            int cityCount = instance.size();
+            result.cities = cityCount;
+            if (options.islands == 0 && cityCount < SMALL_INSTANCE_CITIES) {
+                options.islands = 1;
+            }
+
+            long maxMemory = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+            int parameterCities = options.decompose > 0 ? Math.min(cityCount, options.decompose) : cityCount;
+            int populationSize = Main.calculatePopulationSize(parameterCities, maxMemory);
+            int generations = Main.calculateGenerations(parameterCities, options);
+            double mutationRate = Main.calculateMutationRate(parameterCities);
+
+            SplittableRandom random = new SplittableRandom(options.seed);
+            Tour best;
+            if (options.decompose > 0) {
+                best = Decomposition.solve(instance, options, random.split());
+            } else {
+                Population population = new Population(instance, populationSize, random.split());
+                best = GeneticAlgorithm.evolve(population, generations, mutationRate, options, random.split());
+            }
+
+            result.cost = best.exactDistance();
+            result.seconds = (System.nanoTime() - start) / 1e9;
+            result.improved = ResultsStore.save(options, best, result.seconds, populationSize, generations,
+                    mutationRate);
+        } catch (IOException | RuntimeException e) {
+            result.seconds = (System.nanoTime() - start) / 1e9;
+            result.error = e.toString();
+        }
+        return result;
+    }
+
+    private static synchronized void report(Result result, int index, int total) {
+        if (result.error != null) {
+            System.out.printf("[%d/%d] %s: HATA %s\n", index, total, result.file, result.error);
+        } else {
+            System.out.printf("[%d/%d] %s: %d şehir, maliyet %.2f, %.2f saniye%s\n", index, total, result.file,
+                    result.cities, result.cost, result.seconds, result.improved ? " (yeni en iyi)" : "");
+        }
+    }
+
+    // Klasör: içindeki tüm veri dosyaları (ikili yan dosyalar hariç).
+    // Liste dosyası: her satırda bir yol; yol yoksa data/ altında aranır. '#' ile başlayan satırlar atlanır.
+    static List<Path> listInstances(String source) throws IOException {
+        Path path = Paths.get(source);
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> entries = Files.list(path)) {
+                entries.filter(Files::isRegularFile)
+                        .filter(file -> {
+                            String name = file.getFileName().toString();
+                            return !name.endsWith(InstanceLoader.BINARY_SUFFIX) && !name.endsWith(".tmp")
+                                    && !name.startsWith(".");
+                        })
+                        .forEach(files::add);
+            }
+        } else {
+            for (String line : Files.readAllLines(path)) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                Path file = Paths.get(line);
+                if (!Files.exists(file)) {
+                    file = Paths.get("data", line);
+                }
+                if (!Files.isRegularFile(file)) {
+                    throw new IllegalArgumentException("Veri seti bulunamadı: " + line);
+                }
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    // Sürecin toplam CPU süresi; platform desteklemiyorsa -1
+    private static long processCpuNanos() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,100 @@
+package tsp;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Uzun süren çalıştırmalar için kontrol noktası: nesil sayacı, erken sonlandırma
+// durumu, devam tohumu, en iyi tur ve tüm popülasyon. Turlar sıkıştırılmış
+// permütasyon olarak yazılır (65536 şehre kadar şehir başına 2 bayt, üstünde 4).
+// SplittableRandom durumu dışa aktarılamadığı için kontrol noktasında ayrı bir
+// akıştan bir devam tohumu çekilir; devam eden çalıştırmanın tüm akışları bu
+// tohumdan türetilir, böylece aynı kontrol noktası her zaman aynı sonucu verir.
+public class Checkpoint {
+    private static final int MAGIC = 0x54535043; // "TSPC"
+    private static final int VERSION = 1;
+
+    public int generation;
+    public int noImprovementCount;
+    public double lastBestDistance;
+    public long seed;
+    public int[] best;
+    // Ada sırasına göre iç içe: i. tur (i % adaSayısı). adaya aittir
+    public List<int[]> tours = new ArrayList<>();
+
+    public void write(String fileName) throws IOException {
+        Path path = Paths.get(fileName);
+        Path temp = Paths.get(fileName + ".tmp");
+        int n = best.length;
+        boolean compact = n <= 65536;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(generation);
+            out.writeInt(noImprovementCount);
+            out.writeDouble(lastBestDistance);
+            out.writeLong(seed);
+            out.writeInt(tours.size());
+            writeOrder(out, best, compact);
+            for (int[] order : tours) {
+                writeOrder(out, order, compact);
+            }
+        }
+        // Yarım yazılmış kontrol noktası öncekinin yerini almasın
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static Checkpoint read(String fileName, TspInstance instance) throws IOException {
+        int n = instance.size();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Paths.get(fileName))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalArgumentException("Geçersiz kontrol noktası dosyası: " + fileName);
+            }
+            if (in.readInt() != n) {
+                throw new IllegalArgumentException("Kontrol noktası bu veri setine ait değil: " + fileName);
+            }
+            Checkpoint checkpoint = new Checkpoint();
+            checkpoint.generation = in.readInt();
+            checkpoint.noImprovementCount = in.readInt();
+            checkpoint.lastBestDistance = in.readDouble();
+            checkpoint.seed = in.readLong();
+            int count = in.readInt();
+            boolean compact = n <= 65536;
+            boolean[] seen = new boolean[n];
+            checkpoint.best = readOrder(in, n, compact, seen);
+            for (int i = 0; i < count; i++) {
+                checkpoint.tours.add(readOrder(in, n, compact, seen));
+            }
+            return checkpoint;
+        }
+    }
+
+    static void writeOrder(DataOutputStream out, int[] order, boolean compact) throws IOException {
+        for (int city : order) {
+            if (compact) {
+                out.writeShort(city);
+            } else {
+                out.writeInt(city);
+            }
+        }
+    }
+
+    static int[] readOrder(DataInputStream in, int n, boolean compact, boolean[] seen) throws IOException {
+        int[] order = new int[n];
+        java.util.Arrays.fill(seen, false);
+        for (int i = 0; i < n; i++) {
+            int city = compact ? in.readUnsignedShort() : in.readInt();
+            if (city < 0 || city >= n || seen[city]) {
+                throw new IllegalArgumentException("Kontrol noktasında geçersiz tur");
+            }
+            seen[city] = true;
+            order[i] = city;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,61 @@
+package tsp;
+
+import java.util.Objects;
+
+public class City {
+    public double x;
+    public double y;
+    private int index;
+
+    public City(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.index = -1;
+    }
+
+    public City(double x, double y, int index) {
+        this.x = x;
+        this.y = y;
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    // Mesafe önbelleği yok: tekrar eden sorgular için TspInstance.distances kullanılır
+    public double distanceTo(City city) {
+        double dx = this.x - city.x;
+        double dy = this.y - city.y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+
+        City other = (City) obj;
+        return this.index == other.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d: (%d, %d)", index, (int) x, (int) y);
+    }
+
+    public String getName() {
+        return index >= 0 ? String.valueOf(index) : String.format("(%d, %d)", (int) x, (int) y);
+    }
+}
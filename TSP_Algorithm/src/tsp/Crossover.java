@@ -0,0 +1,268 @@
+package tsp;
+
+import java.util.SplittableRandom;
+
+// Çaprazlama operatörleri. Örnek paylaşılmaz: her ada veya işçi çalıştırmanın
+// çalışma alanındaki (GeneticAlgorithm.Workspace) kendi örneğini kullanır; tüm
+// çalışma dizileri ilkel ve yeniden kullanılır, çocuk başına yalnızca çocuğun
+// int[] sıralaması ayrılır (HashSet veya liste yok).
+public class Crossover {
+    private final TspInstance instance;
+
+    // OX: şehir kullanıldı mı (mark[city] == stamp)
+    private final int[] mark;
+    private int stamp;
+
+    // GPX çalışma dizileri (şehir indeksine göre)
+    private final int[] posA;
+    private final int[] posB;
+    private final int[] root;       // birleşim-bul (union-find) ebeveyni
+    private final int[] runCount;   // bileşenin A turundaki ardışık parça sayısı
+    private final int[] runStart;   // bileşenin A'daki parçasının başlangıcı (s'ye göre)
+    private final int[] runLength;
+    private final byte[] directionB; // 0: A'dan al, +1 / -1: B'den bu yönde al
+
+    public Crossover(TspInstance instance) {
+        this.instance = instance;
+        int n = instance.size();
+        mark = new int[n];
+        posA = new int[n];
+        posB = new int[n];
+        root = new int[n];
+        runCount = new int[n];
+        runStart = new int[n];
+        runLength = new int[n];
+        directionB = new byte[n];
+    }
+
+    // Adı verilen operatörü uygula: "ox" veya "gpx"
+    public Tour cross(String operator, Tour parent1, Tour parent2, SplittableRandom rand) {
+        Tour child = Tour.wrap(instance, new int[parent1.order.length]);
+        crossInto(operator, parent1, parent2, rand, child);
+        return child;
+    }
+
+    // Çocuğu verilen turun dizisine yaz (çift tamponlu nesil; ayırma yok).
+    // Hedef tur ebeveynlerden farklı bir dizi taşımalıdır.
+    public void crossInto(String operator, Tour parent1, Tour parent2, SplittableRandom rand, Tour target) {
+        if (operator.equals("gpx")) {
+            partitionCrossover(parent1, parent2, target);
+        } else {
+            orderCrossover(parent1, parent2, rand, target);
+        }
+    }
+
+    // Order Crossover (OX)
+    public Tour orderCrossover(Tour parent1, Tour parent2, SplittableRandom rand) {
+        Tour child = Tour.wrap(instance, new int[parent1.order.length]);
+        orderCrossover(parent1, parent2, rand, child);
+        return child;
+    }
+
+    private void orderCrossover(Tour parent1, Tour parent2, SplittableRandom rand, Tour target) {
+        int size = parent1.order.length;
+        int[] p1 = parent1.order;
+        int[] p2 = parent2.order;
+
+        // Rastgele bir alt segment seç
+        int start = rand.nextInt(size);
+        int end = rand.nextInt(size);
+
+        if (start == end) {
+            // Segment çok küçük, basit bir kopya oluştur
+            target.copyFrom(parent1);
+            return;
+        }
+
+        int lower = Math.min(start, end);
+        int upper = Math.max(start, end);
+
+        int[] child = target.order;
+        // Yeni damga: önceki çocuklardan kalan işaretler geçersiz olur
+        if (++stamp == 0) {
+            java.util.Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+
+        // Segment doğrudan parent1'den kopyala
+        for (int i = lower; i < upper; i++) {
+            child[i] = p1[i];
+            mark[p1[i]] = stamp;
+        }
+
+        // Diğer şehirleri parent2'den ekle
+        int currentIdx = upper % size;
+        for (int i = 0; i < size; i++) {
+            int city = p2[(upper + i) % size];
+            if (mark[city] != stamp) {
+                child[currentIdx] = city;
+                currentIdx = (currentIdx + 1) % size;
+
+                // Dizinin sınırlarını kontrol et
+                if (currentIdx == lower) {
+                    break; // Tüm boşluklar doldu
+                }
+            }
+        }
+
+        target.resetDistance();
+        target.resetHash();
+    }
+
+    // Bölümleme çaprazlaması (Generalized Partition Crossover, GPX). İki ebeveynin
+    // ortak olmayan kenarları şehirleri bileşenlere ayırır. Daha kısa ebeveynin
+    // (A) turunda tek parça halinde geçilen her bileşene iki ebeveyn de aynı
+    // uçlardan girip çıkar; bu bileşenlerin her biri için daha kısa olan
+    // ebeveynin yolu seçilir. Ortak kenarların tamamı çocukta korunur ve çocuğun
+    // uzunluğu tam değerlendirme yapmadan bilinir.
+    public Tour partitionCrossover(Tour parent1, Tour parent2) {
+        Tour child = Tour.wrap(instance, new int[parent1.order.length]);
+        partitionCrossover(parent1, parent2, child);
+        return child;
+    }
+
+    private void partitionCrossover(Tour parent1, Tour parent2, Tour target) {
+        Tour a = parent1.getDistance() <= parent2.getDistance() ? parent1 : parent2;
+        Tour b = a == parent1 ? parent2 : parent1;
+        int[] orderA = a.order;
+        int[] orderB = b.order;
+        int n = orderA.length;
+        if (n < 4) {
+            target.copyFrom(a);
+            return;
+        }
+
+        for (int i = 0; i < n; i++) {
+            posA[orderA[i]] = i;
+            posB[orderB[i]] = i;
+            root[i] = i;
+            runCount[i] = 0;
+            directionB[i] = 0;
+        }
+
+        // Ortak olmayan kenarların uçlarını aynı bileşende birleştir
+        int differing = 0;
+        for (int i = 0; i < n; i++) {
+            int u = orderA[i];
+            int v = orderA[i + 1 == n ? 0 : i + 1];
+            if (!adjacent(posB, u, v, n)) {
+                union(u, v);
+                differing++;
+            }
+        }
+        if (differing == 0) {
+            target.copyFrom(a); // Ebeveynler aynı tur
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            int u = orderB[i];
+            int v = orderB[i + 1 == n ? 0 : i + 1];
+            if (!adjacent(posA, u, v, n)) {
+                union(u, v);
+            }
+        }
+
+        // A üzerinde bir bileşen sınırından başla
+        int s = -1;
+        for (int i = 0; i < n; i++) {
+            if (find(orderA[i]) != find(orderA[i == 0 ? n - 1 : i - 1])) {
+                s = i;
+                break;
+            }
+        }
+        if (s < 0) {
+            target.copyFrom(a); // Tek bileşen: daha kısa ebeveyn
+            return;
+        }
+
+        // Bileşenlerin A'daki ardışık parçalarını say
+        int previous = -1;
+        for (int t = 0; t < n; t++) {
+            int r = find(orderA[(s + t) % n]);
+            if (r != previous) {
+                if (runCount[r]++ == 0) {
+                    runStart[r] = t;
+                    runLength[r] = 0;
+                }
+                previous = r;
+            }
+            if (runCount[r] == 1) {
+                runLength[r]++;
+            }
+        }
+
+        // Tek parçalı her bileşende iki ebeveynin yolunu karşılaştır
+        double improvement = 0;
+        for (int t = 0; t < n; ) {
+            int r = find(orderA[(s + t) % n]);
+            int length = runLength[r];
+            if (runCount[r] == 1 && length >= 3) {
+                int u = orderA[(s + t) % n];
+                int v = orderA[(s + t + length - 1) % n];
+                int next = orderB[(posB[u] + 1) % n];
+                int direction = find(next) == r ? 1 : -1;
+                // B'deki parça da u'dan v'ye gitmeli
+                if (orderB[Math.floorMod(posB[u] + direction * (length - 1), n)] == v) {
+                    double costA = 0;
+                    double costB = 0;
+                    for (int j = 0; j < length - 1; j++) {
+                        costA += instance.distance(orderA[(s + t + j) % n], orderA[(s + t + j + 1) % n]);
+                        costB += instance.distance(orderB[Math.floorMod(posB[u] + direction * j, n)],
+                                orderB[Math.floorMod(posB[u] + direction * (j + 1), n)]);
+                    }
+                    if (costB < costA - LocalSearch.EPSILON) {
+                        directionB[r] = (byte) direction;
+                        improvement += costA - costB;
+                    }
+                }
+            }
+            t += runCount[r] == 1 ? length : 1;
+        }
+        if (improvement == 0) {
+            target.copyFrom(a);
+            return;
+        }
+
+        // Çocuğu kur: seçilen bileşenler B'den, diğer her şey A'dan
+        int[] child = target.order;
+        for (int t = 0; t < n; ) {
+            int city = orderA[(s + t) % n];
+            int r = find(city);
+            if (directionB[r] != 0) {
+                int length = runLength[r];
+                int p = posB[city];
+                for (int j = 0; j < length; j++) {
+                    child[t + j] = orderB[Math.floorMod(p + directionB[r] * j, n)];
+                }
+                t += length;
+            } else {
+                child[t] = city;
+                t++;
+            }
+        }
+
+        target.setDistance(a.getDistance() - improvement);
+        target.resetHash();
+    }
+
+    private static boolean adjacent(int[] pos, int u, int v, int n) {
+        int d = pos[u] - pos[v];
+        return d == 1 || d == -1 || d == n - 1 || d == 1 - n;
+    }
+
+    private int find(int city) {
+        while (root[city] != city) {
+            root[city] = root[root[city]]; // Yol yarılama
+            city = root[city];
+        }
+        return city;
+    }
+
+    private void union(int u, int v) {
+        int ru = find(u);
+        int rv = find(v);
+        if (ru != rv) {
+            root[ru] = rv;
+        }
+    }
+}
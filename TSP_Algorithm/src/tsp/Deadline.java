@@ -0,0 +1,35 @@
+package tsp;
+
+// System.nanoTime() tabanlı son anlar (Options.deadlineNanos, yerel arama ve küme süreleri).
+// nanoTime negatif olabilir; bu yüzden yalnızca 0 "son an yok" anlamına gelir ve geçip
+// geçmediği taşmaya dayanıklı farkla (nanoTime() - deadline > 0) sınanır.
+final class Deadline {
+    static final long NONE = 0;
+
+    private Deadline() {
+    }
+
+    // Verilen anda biten son an; an 0'a denk gelirse "yok" ile karışmasın diye 1 ns kaydırılır
+    static long at(long nanos) {
+        return nanos == NONE ? 1 : nanos;
+    }
+
+    static boolean isSet(long deadline) {
+        return deadline != NONE;
+    }
+
+    static boolean passed(long deadline) {
+        return deadline != NONE && System.nanoTime() - deadline > 0;
+    }
+
+    // İki son andan önce geleni; biri yoksa diğeri
+    static long earlier(long a, long b) {
+        if (a == NONE) {
+            return b;
+        }
+        if (b == NONE) {
+            return a;
+        }
+        return a - b < 0 ? a : b;
+    }
+}
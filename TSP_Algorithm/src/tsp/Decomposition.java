@@ -0,0 +1,384 @@
+package tsp;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Böl ve fethet (çok büyük veri setleri için): şehirler uzamsal olarak yaklaşık eşit
+// boyutlu kümelere ayrılır ve her küme kendi küçük örneğinde GeneticAlgorithm ile
+// ortak havuzda paralel çözülür. Küme turları, küme merkezlerinin turu boyunca
+// birleştirilir; ardından küme sınırlarındaki şehirlerden başlayan yerel arama
+// birleşim noktalarını ve sınır boyunca kalan kötü kenarları onarır.
+//
+// Popülasyonlar tüm tur yerine küme boyutunda permütasyonlar taşır; bellek
+// kullanımı şehir sayısıyla değil küme boyutu ve çekirdek sayısıyla büyür.
+public class Decomposition {
+    // Süre sınırlı çalışmada birleştirme ve onarıma ayrılan süre oranı; onarımdan artan süre
+    // tüm tur üzerinde yerel tekmelerle kullanılır
+    static final double REPAIR_SHARE = 0.1;
+    // Tekmede yer değiştiren iki bitişik parçanın yayıldığı en uzun pencere (tur sırasında konum)
+    static final int KICK_WINDOW = 30;
+
+    public static Tour solve(TspInstance instance, Options options, SplittableRandom rand) {
+        long start = System.nanoTime();
+        int[][] clusters = partition(instance, options.decompose);
+        int count = clusters.length;
+
+        double[] cx = new double[count];
+        double[] cy = new double[count];
+        for (int c = 0; c < count; c++) {
+            for (int city : clusters[c]) {
+                cx[c] += instance.xs[city];
+                cy[c] += instance.ys[city];
+            }
+            cx[c] /= clusters[c].length;
+            cy[c] /= clusters[c].length;
+        }
+        int[] clusterOrder = centroidTour(cx, cy, options);
+
+        int parallelism = GeneticAlgorithm.executor.getParallelism();
+        GeneticAlgorithm.log(options, "\nAyrıştırma: %d küme (en fazla %d şehir), %d çekirdek", count,
+                options.decompose, parallelism);
+
+        // Süre sınırı varsa sonun bir kısmı birleştirme ve onarım için ayrılır
+        long clusterDeadline = Deadline.NONE;
+        if (Deadline.isSet(options.deadlineNanos)) {
+            long remaining = Math.max(0, options.deadlineNanos - System.nanoTime());
+            clusterDeadline = Deadline.at(options.deadlineNanos - (long) (remaining * REPAIR_SHARE));
+        }
+
+        // Kümeleri ortak havuza gönder (boyutları yaklaşık eşittir)
+        AtomicInteger pending = new AtomicInteger(count);
+        List<ForkJoinTask<int[]>> tasks = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            int[] cities = clusters[c];
+            Options clusterOptions = clusterOptions(options, rand.nextLong());
+            long deadline = clusterDeadline;
+            tasks.add(GeneticAlgorithm.executor.submit(() -> {
+                startClusterClock(clusterOptions, deadline, pending.getAndDecrement(), parallelism);
+                return solveCluster(instance, cities, clusterOptions);
+            }));
+        }
+        int[][] tours = new int[count][];
+        for (int c = 0; c < count; c++) {
+            try {
+                tours[c] = tasks.get(c).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Küme çözümü kesildi", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Küme çözümü başarısız oldu", e.getCause());
+            }
+        }
+        GeneticAlgorithm.log(options, "\nKümeler çözüldü (%.1f sn)", (System.nanoTime() - start) / 1e9);
+
+        Tour tour = Tour.wrap(instance, stitch(instance, tours, clusterOrder, cx, cy));
+        double stitched = tour.getDistance();
+
+        // Onarım: yalnızca kümeler arası sınırdaki şehirlerden başlanır, iyileşen
+        // hamlelerin uçları kuyruğa eklendikçe arama gerektiği kadar içeri yayılır.
+        // Çocuk başına bütçe (--ls-moves, --ls-time) bu geçişe uygulanmaz.
+        Options repairOptions = options.copy();
+        repairOptions.localSearchMoves = 0;
+        repairOptions.localSearchMillis = 0;
+        int[] boundary = boundaryCities(instance, clusters, tour.order);
+        GeneticAlgorithm.localOptimization(tour, boundary, repairOptions);
+        GeneticAlgorithm.log(options, "\nBirleştirme: %.2f, sınır onarımı (%d şehirden): %.2f (%.1f sn)", stitched,
+                boundary.length, tour.getDistance(), (System.nanoTime() - start) / 1e9);
+
+        // Onarım kendisine ayrılan süreden kısa sürdüyse kalan süre boşta geçmesin
+        if (Deadline.isSet(options.deadlineNanos) && !GeneticAlgorithm.expired(options)) {
+            double repaired = tour.getDistance();
+            int kicks = kickUntilDeadline(tour, repairOptions, rand);
+            GeneticAlgorithm.log(options, "\nKalan süre: %d yerel tekme, %.2f -> %.2f (%.1f sn)", kicks, repaired,
+                    tour.getDistance(), (System.nanoTime() - start) / 1e9);
+        }
+        return tour;
+    }
+
+    // Yinelemeli yerel arama: bir penceredeki iki bitişik parçanın yeri değiştirilir (üç kenar
+    // değişir), yerel arama yalnızca değişen kenarların uçlarından başlar; tur kısalmadıysa
+    // önceki tura dönülür. Süre sınırı dolana kadar sürer, uygulanan tekme sayısını döndürür.
+    static int kickUntilDeadline(Tour tour, Options options, SplittableRandom rand) {
+        int n = tour.size();
+        if (n < 2 * KICK_WINDOW) {
+            return 0;
+        }
+        TspInstance instance = tour.instance;
+        GeneticAlgorithm.Workspace workspace = new GeneticAlgorithm.Workspace(instance, options);
+        Tour best = tour.copy();
+        int[] segment = new int[KICK_WINDOW];
+        int[] ends = new int[6];
+        int half = KICK_WINDOW / 2 - 1;
+        int kicks = 0;
+        while (!GeneticAlgorithm.expired(options)) {
+            int[] order = tour.order;
+            int a = 1 + rand.nextInt(n - KICK_WINDOW - 1);
+            int b = a + 1 + rand.nextInt(half);
+            int c = b + 1 + rand.nextInt(half);
+            int before = order[a - 1];
+            int first1 = order[a];
+            int last1 = order[b - 1];
+            int first2 = order[b];
+            int last2 = order[c - 1];
+            int after = order[c];
+            double delta = instance.distance(before, first2) + instance.distance(last2, first1)
+                    + instance.distance(last1, after) - instance.distance(before, first1)
+                    - instance.distance(last1, first2) - instance.distance(last2, after);
+
+            // [a, b) ve [b, c) parçalarının yerini değiştir
+            int length = b - a;
+            System.arraycopy(order, a, segment, 0, length);
+            System.arraycopy(order, b, order, a, c - b);
+            System.arraycopy(segment, 0, order, a + c - b, length);
+            tour.adjustDistance(delta);
+            tour.resetHash();
+
+            ends[0] = before;
+            ends[1] = first1;
+            ends[2] = last1;
+            ends[3] = first2;
+            ends[4] = last2;
+            ends[5] = after;
+            GeneticAlgorithm.localOptimization(tour, ends, options, workspace, null);
+            kicks++;
+            if (tour.getDistance() < best.getDistance() - LocalSearch.EPSILON) {
+                best.copyFrom(tour);
+            } else {
+                tour.copyFrom(best);
+            }
+        }
+        return kicks;
+    }
+
+    // Şeritler ve hücrelerden oluşan, yoğunluğa uyan ızgara: şehirler x'e göre
+    // yaklaşık √küme sayısı şeride, her şerit y'ye göre eşit boyutlu hücrelere bölünür.
+    // Şerit başına hücre sayısı yukarı yuvarlanır; hiçbir küme clusterSize'ı aşmaz.
+    static int[][] partition(TspInstance instance, int clusterSize) {
+        int n = instance.size();
+        int count = Math.max(1, (n + clusterSize - 1) / clusterSize);
+        int strips = Math.max(1, (int) Math.round(Math.sqrt(count)));
+
+        int[] byX = sortedBy(instance.xs, allCities(n));
+        List<int[]> clusters = new ArrayList<>(count + strips);
+        for (int s = 0; s < strips; s++) {
+            int from = (int) ((long) s * n / strips);
+            int to = (int) ((long) (s + 1) * n / strips);
+            int[] strip = sortedBy(instance.ys, Arrays.copyOfRange(byX, from, to));
+            int cells = Math.max(1, (strip.length + clusterSize - 1) / clusterSize);
+            for (int c = 0; c < cells; c++) {
+                int cellFrom = (int) ((long) c * strip.length / cells);
+                int cellTo = (int) ((long) (c + 1) * strip.length / cells);
+                clusters.add(Arrays.copyOfRange(strip, cellFrom, cellTo));
+            }
+        }
+        return clusters.toArray(new int[0][]);
+    }
+
+    private static int[] allCities(int n) {
+        int[] cities = new int[n];
+        for (int i = 0; i < n; i++) {
+            cities[i] = i;
+        }
+        return cities;
+    }
+
+    private static int[] sortedBy(double[] key, int[] cities) {
+        Integer[] boxed = new Integer[cities.length];
+        for (int i = 0; i < cities.length; i++) {
+            boxed[i] = cities[i];
+        }
+        Arrays.sort(boxed, Comparator.comparingDouble(city -> key[city]));
+        for (int i = 0; i < cities.length; i++) {
+            cities[i] = boxed[i];
+        }
+        return cities;
+    }
+
+    // Küme merkezlerinin turu: en yakın komşu ve 2-opt (küme sayısı küçüktür)
+    static int[] centroidTour(double[] cx, double[] cy, Options options) {
+        if (cx.length < 3) {
+            return allCities(cx.length);
+        }
+        TspInstance centroids = new TspInstance(cx, cy);
+        Tour tour = Tour.wrap(centroids, GeneticAlgorithm.nearestNeighborOrder(centroids, 0));
+        Options centroidOptions = options.copy();
+        centroidOptions.localSearch = "2opt";
+        centroidOptions.localSearchMoves = 0;
+        centroidOptions.localSearchMillis = 0;
+        centroidOptions.deadlineNanos = Deadline.NONE;
+        GeneticAlgorithm.localOptimization(tour, centroidOptions);
+        return tour.order;
+    }
+
+    // Küme başına bağımsız seçenekler: tek ada (paralellik kümeler arasındadır),
+    // sessiz ve dosyaya yazan özellikler kapalı
+    private static Options clusterOptions(Options options, long seed) {
+        Options clusterOptions = options.copy();
+        clusterOptions.decompose = 0;
+        clusterOptions.islands = 1;
+        clusterOptions.quiet = true;
+        clusterOptions.seed = seed;
+        clusterOptions.onImprovement = null;
+        clusterOptions.metricsFile = null;
+        clusterOptions.checkpoint = null;
+        clusterOptions.resume = null;
+        clusterOptions.warmStart = false;
+        return clusterOptions;
+    }
+
+    // Kalan küme süresi, henüz başlamamış kümelere çekirdek sayısı oranında paylaştırılır
+    private static void startClusterClock(Options clusterOptions, long clusterDeadline, int waiting, int parallelism) {
+        if (!Deadline.isSet(clusterDeadline)) {
+            return;
+        }
+        long now = System.nanoTime();
+        long remaining = Math.max(0, clusterDeadline - now);
+        long share = remaining / Math.max(1, waiting) * Math.min(parallelism, waiting);
+        clusterOptions.deadlineNanos = Deadline.at(now + share);
+    }
+
+    // Kümeyi kendi örneğinde çöz ve turu genel şehir indeksleriyle döndür
+    static int[] solveCluster(TspInstance instance, int[] cities, Options options) {
+        int m = cities.length;
+        double[] xs = new double[m];
+        double[] ys = new double[m];
+        for (int i = 0; i < m; i++) {
+            xs[i] = instance.xs[cities[i]];
+            ys[i] = instance.ys[cities[i]];
+        }
+        TspInstance sub = new TspInstance(xs, ys);
+
+        int[] local;
+        if (m < 3 || GeneticAlgorithm.expired(options)) {
+            // Süre dolmuşsa rastgele tur yerine en yakın komşu turu
+            local = m == 0 ? new int[0] : GeneticAlgorithm.nearestNeighborOrder(sub, 0);
+        } else {
+            long maxMemory = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+            SplittableRandom random = new SplittableRandom(options.seed);
+            Population population = new Population(sub, Math.max(2, Main.calculatePopulationSize(m, maxMemory)),
+                    random.split());
+            local = GeneticAlgorithm.evolve(population, Main.calculateGenerations(m, options),
+                    Main.calculateMutationRate(m), options, random.split()).order;
+        }
+
+        int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            order[i] = cities[local[i]];
+        }
+        return order;
+    }
+
+    // Küme turlarını merkez turu sırasıyla birleştir. Her kümede bir kenar kesilir;
+    // kesilecek kenar ve yön, önceki kümenin çıkış şehrinden giriş maliyeti ile
+    // sonraki kümenin merkezine çıkış maliyetinin toplamını en aza indirecek şekilde seçilir.
+    static int[] stitch(TspInstance instance, int[][] tours, int[] clusterOrder, double[] cx, double[] cy) {
+        int count = clusterOrder.length;
+        int n = 0;
+        for (int[] tour : tours) {
+            n += tour.length;
+        }
+        int[] order = new int[n];
+        if (count == 1) {
+            System.arraycopy(tours[0], 0, order, 0, n);
+            return order;
+        }
+
+        double[] xs = instance.xs;
+        double[] ys = instance.ys;
+        // İlk küme için giriş noktası olarak son kümenin merkezi kullanılır
+        int lastCluster = clusterOrder[count - 1];
+        double px = cx[lastCluster];
+        double py = cy[lastCluster];
+        int position = 0;
+        for (int p = 0; p < count; p++) {
+            int[] tour = tours[clusterOrder[p]];
+            int m = tour.length;
+            if (m == 0) {
+                continue;
+            }
+            int nextCluster = clusterOrder[(p + 1) % count];
+            double nx = cx[nextCluster];
+            double ny = cy[nextCluster];
+
+            // (tour[i], tour[i + 1]) kenarını kes: ileri yönde tour[i + 1]'den girip tour[i]'den
+            // çık ya da geri yönde tour[i]'den girip tour[i + 1]'den çık
+            int bestEdge = 0;
+            boolean forward = true;
+            double bestCost = Double.MAX_VALUE;
+            for (int i = 0; i < m; i++) {
+                int a = tour[i];
+                int b = tour[i + 1 == m ? 0 : i + 1];
+                double edge = m == 1 ? 0 : distance(xs[a], ys[a], xs[b], ys[b]);
+                double forwardCost = distance(px, py, xs[b], ys[b]) + distance(xs[a], ys[a], nx, ny) - edge;
+                double backwardCost = distance(px, py, xs[a], ys[a]) + distance(xs[b], ys[b], nx, ny) - edge;
+                if (forwardCost < bestCost) {
+                    bestCost = forwardCost;
+                    bestEdge = i;
+                    forward = true;
+                }
+                if (backwardCost < bestCost) {
+                    bestCost = backwardCost;
+                    bestEdge = i;
+                    forward = false;
+                }
+            }
+
+            for (int j = 0; j < m; j++) {
+                int index = forward ? bestEdge + 1 + j : bestEdge - j;
+                index = ((index % m) + m) % m;
+                order[position++] = tour[index];
+            }
+            int exit = order[position - 1];
+            px = xs[exit];
+            py = ys[exit];
+        }
+        return order;
+    }
+
+    // Aday komşularından biri başka kümede olan şehirler ve birleşim kenarlarının uçları
+    static int[] boundaryCities(TspInstance instance, int[][] clusters, int[] order) {
+        int n = instance.size();
+        int[] label = new int[n];
+        for (int c = 0; c < clusters.length; c++) {
+            for (int city : clusters[c]) {
+                label[city] = c;
+            }
+        }
+        boolean[] boundary = new boolean[n];
+        int[] candidates = instance.candidates;
+        int k = instance.candidateCount;
+        for (int city = 0; city < n; city++) {
+            for (int m = 0; m < k; m++) {
+                if (label[candidates[city * k + m]] != label[city]) {
+                    boundary[city] = true;
+                    break;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            int a = order[i];
+            int b = order[i + 1 == n ? 0 : i + 1];
+            if (label[a] != label[b]) {
+                boundary[a] = true;
+                boundary[b] = true;
+            }
+        }
+
+        int count = 0;
+        int[] cities = new int[n];
+        for (int city = 0; city < n; city++) {
+            if (boundary[city]) {
+                cities[count++] = city;
+            }
+        }
+        return Arrays.copyOf(cities, count);
+    }
+
+    private static double distance(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
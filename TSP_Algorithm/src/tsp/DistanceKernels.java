@@ -0,0 +1,41 @@
+package tsp;
+
+// Koordinat dizileri üzerinde toplu mesafe hesapları: tam tur uzunluğu, bir noktadan
+// çok sayıda şehre mesafe ve ziyaret edilmemişler arasında en yakın şehir. Vector API
+// (jdk.incubator.vector) kullanılabiliyorsa SIMD uygulaması, değilse skaler uygulama
+// başlangıçta bir kez seçilir. Uygulamalar durumsuzdur; iş parçacıkları arasında paylaşılır.
+public interface DistanceKernels {
+    DistanceKernels INSTANCE = select();
+
+    String name();
+
+    // order sırasıyla kapalı turun uzunluğu
+    double tourLength(double[] xs, double[] ys, int[] order);
+
+    // out[j] = (x, y) noktasının j. şehre mesafesi, j < count
+    void distancesTo(double x, double y, double[] xs, double[] ys, int count, double[] out);
+
+    // [from, to) aralığında skip[i] false olan ve (x, y) noktasına karesel mesafesi limit'ten
+    // küçük olan en yakın konum; yoksa -1. Eşitlikte ilk konum seçilir.
+    int nearest(double x, double y, double[] xs, double[] ys, boolean[] skip, int from, int to, double limit);
+
+    static DistanceKernels scalar() {
+        return new ScalarDistanceKernels();
+    }
+
+    // Vector API uygulaması; modül açık değilse (--add-modules jdk.incubator.vector), sınıf
+    // derlenmemişse (JDK 17 öncesi) veya işlemci SIMD genişliği sunmuyorsa null
+    static DistanceKernels vector() {
+        try {
+            return (DistanceKernels) Class.forName("tsp.VectorDistanceKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    // -Dtsp.vector=false skaler uygulamayı zorlar
+    private static DistanceKernels select() {
+        DistanceKernels vector = Boolean.parseBoolean(System.getProperty("tsp.vector", "true")) ? vector() : null;
+        return vector != null ? vector : scalar();
+    }
+}
@@ -0,0 +1,34 @@
+package tsp;
+
+// Şehirler arası mesafe stratejisi. Uygulamalar yalnızca değişmez ilkel
+// dizileri okur; sıcak yolda kilit ve nesne ayırma yoktur.
+public interface DistanceOracle {
+    // Bu boyuta kadar tam üçgen matris (float) önceden hesaplanır
+    int MATRIX_MAX_CITIES = 5000;
+    // Bu boyuta kadar şehir başına aday komşu mesafe tablosu tutulur
+    int NEIGHBOR_TABLE_MAX_CITIES = 50000;
+
+    double distance(int i, int j);
+
+    String name();
+
+    long memoryBytes();
+
+    // Mesafeler koordinatlardan hesaplanan double değerlerle aynı mı (float matris değildir)
+    default boolean exact() {
+        return true;
+    }
+
+    // Şehir sayısına göre uygun stratejiyi seç
+    static DistanceOracle create(double[] xs, double[] ys, int[] candidates, int candidateCount,
+            DistanceKernels kernels) {
+        int n = xs.length;
+        if (n <= MATRIX_MAX_CITIES) {
+            return new MatrixDistanceOracle(xs, ys, kernels);
+        }
+        if (n <= NEIGHBOR_TABLE_MAX_CITIES) {
+            return new NeighborDistanceOracle(xs, ys, candidates, candidateCount);
+        }
+        return new EuclideanDistanceOracle(xs, ys);
+    }
+}
@@ -0,0 +1,29 @@
+package tsp;
+
+// Çok büyük veri setleri için: mesafe her seferinde koordinat dizilerinden hesaplanır
+public class EuclideanDistanceOracle implements DistanceOracle {
+    private final double[] xs;
+    private final double[] ys;
+
+    public EuclideanDistanceOracle(double[] xs, double[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    @Override
+    public double distance(int i, int j) {
+        double dx = xs[i] - xs[j];
+        double dy = ys[i] - ys[j];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    @Override
+    public String name() {
+        return "anlık hesaplama";
+    }
+
+    @Override
+    public long memoryBytes() {
+        return 0;
+    }
+}
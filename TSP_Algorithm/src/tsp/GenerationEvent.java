@@ -0,0 +1,68 @@
+package tsp;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// Her nesil sonunda yayınlanan JFR olayı. Kayıt yokken olay kapalıdır ve
+// istatistikler hesaplanmaz.
+@Name("tsp.Generation")
+@Label("TSP Generation")
+@Category("TSP")
+@Description("Bir nesil sonundaki popülasyon istatistikleri ve zaman dağılımı")
+public class GenerationEvent extends jdk.jfr.Event {
+    @Label("Generation")
+    public int generation;
+
+    @Label("Best Fitness")
+    public double best;
+
+    @Label("Mean Fitness")
+    public double mean;
+
+    @Label("Worst Fitness")
+    public double worst;
+
+    @Label("Diversity")
+    @Description("En iyi turda olmayan kenarların ortalama oranı")
+    public double diversity;
+
+    @Label("Distinct Tours")
+    @Description("Kenar kümesi özeti farklı bireylerin oranı")
+    public double distinct;
+
+    @Label("Children Per Second")
+    public double childrenPerSecond;
+
+    @Label("Duplicate Children")
+    @Description("Popülasyonda zaten bulunduğu için atılan çocuklar")
+    public long duplicates;
+
+    @Label("Distance Evaluations")
+    @Description("Tam tur uzunluğu hesaplamaları")
+    public long evaluations;
+
+    @Label("Local Search Moves Evaluated")
+    public long movesEvaluated;
+
+    @Label("Local Search Moves Applied")
+    public long movesApplied;
+
+    @Label("Selection Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long selectionNanos;
+
+    @Label("Crossover Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long crossoverNanos;
+
+    @Label("Mutation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mutationNanos;
+
+    @Label("Local Search Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long localSearchNanos;
+}
@@ -0,0 +1,795 @@
+package tsp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GeneticAlgorithm {
+    static final int TOURNAMENT_SIZE = 5;
+    // Sıcak başlangıçta kayıtlı turun her türevine uygulanan mutasyon sayısı
+    private static final int WARM_START_MUTATIONS = 5;
+    // Ada görevlerini (ve toplu modda veri seti işlerini) çalıştıran ortak iş çalan havuz.
+    // Bir işin ada görevlerini beklerken iş parçacığı kuyruktaki diğer görevleri çalıştırır.
+    static final ForkJoinPool executor = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    // Süreç boyunca değerlendirilen yerel arama hamleleri (toplu modda tüm veri setlerinin toplamı;
+    // çalıştırma başına sayaçlar Metrics örneğindedir)
+    private static final LongAdder movesEvaluated = new LongAdder();
+
+    public static Tour evolve(Population pop, int generations, double mutationRate) {
+        return evolve(pop, generations, mutationRate, new Options(), new SplittableRandom());
+    }
+
+    // Tüm rastgelelik rand akışından türetilir: sezgisel başlangıçlar ve her ada
+    // için ayrı (split) akışlar. Aynı tohum ve ada sayısı aynı en iyi turu üretir.
+    public static Tour evolve(Population pop, int generations, double mutationRate, Options options,
+            SplittableRandom rand) {
+        // Ölçümler ve sayaçlar bu çalıştırmaya aittir (aynı anda süren çözümlerle karışmaz)
+        try (Metrics metrics = openMetrics(options)) {
+            return evolve(pop, generations, mutationRate, options, rand, metrics);
+        }
+    }
+
+    private static Tour evolve(Population pop, int generations, double mutationRate, Options options,
+            SplittableRandom rand, Metrics metrics) {
+        int elitismCount = 20;
+        Tour bestSoFar = pop.getFittest();
+        // Ada ve işçi başına yerel arama motorları; çalıştırmayla birlikte bırakılır
+        Workspaces workspaces = new Workspaces(pop.tours.get(0).instance, options);
+
+        // Büyük veri setleri için erken sonlandırma parametreleri
+        int noImprovementCount = 0;
+        int maxNoImprovement = generations / 10; // Toplam nesil sayısının %10'u kadar iyileşme olmazsa
+        double lastBestDistance = Double.MAX_VALUE;
+        double improvementThreshold = 0.0001; // %0.01 iyileşme eşiği
+
+        // Önceden şehirler arası mesafeleri hesapla (cache)
+        for (Tour tour : pop.tours) {
+            tour.getDistance();
+        }
+
+        Checkpoint resumed = options.resume != null ? readCheckpoint(options.resume, pop.tours.get(0).instance) : null;
+        int gen = 0;
+        if (resumed != null) {
+            // Popülasyonu, sayaçları ve rastgele akışı kontrol noktasından geri yükle
+            TspInstance instance = pop.tours.get(0).instance;
+            List<Tour> tours = new ArrayList<>(resumed.tours.size());
+            for (int[] order : resumed.tours) {
+                tours.add(Tour.wrap(instance, order));
+            }
+            pop.tours = tours;
+            bestSoFar = Tour.wrap(instance, resumed.best);
+            gen = resumed.generation;
+            noImprovementCount = resumed.noImprovementCount;
+            lastBestDistance = resumed.lastBestDistance;
+            rand = new SplittableRandom(resumed.seed);
+            log(options, "\nKontrol noktasından devam: nesil %d, en iyi maliyet: %.2f", gen, bestSoFar.getDistance());
+        } else {
+            // Başlangıç popülasyonunu iyileştir
+            initializePopulationWithHeuristicTours(pop, options, rand, workspaces.get(0), metrics);
+            if (options.warmStart) {
+                warmStart(pop, options, rand, workspaces.get(0), metrics);
+            }
+            // Süre sınırı ilk dönemden önce dolarsa da en iyi başlangıç turu dönsün
+            bestSoFar = pop.getFittest();
+        }
+        if (options.onImprovement != null) {
+            options.onImprovement.accept(bestSoFar, gen);
+        }
+        if (options.lowerBound) {
+            log(options, "\nAlt sınır hesabı başlatıldı (Held-Karp 1-ağaç, hedef fark: %%%.2f)", options.targetGap);
+        }
+
+        int islandCount = options.islands > 0 ? options.islands : Runtime.getRuntime().availableProcessors();
+        if (options.steadyState) {
+            // Nesil bariyeri yok: işçiler ortak popülasyonda çocukları CAS ile yerleştirir
+            SteadyState steady = new SteadyState(pop, islandCount, mutationRate, options, workspaces, rand.split());
+            log(options, "\nKararlı durum modu: %d iş parçacığı", steady.workers());
+            try (LowerBound bound = startLowerBound(pop, bestSoFar, options)) {
+                bestSoFar = steady.run(generations, maxNoImprovement, metrics, bound, executor);
+                logBound(options, bound, bestSoFar);
+            }
+            pop.tours = steady.tours();
+            logStatistics(options, steady.generation(), metrics);
+            return bestSoFar;
+        }
+
+        // Otomatik ayar: deneme dönemleriyle ada sayısını ve popülasyon boyutunu seç
+        AutoTuner tuner = null;
+        if (options.autotune) {
+            tuner = new AutoTuner(pop.tours.get(0).size(), mutationRate, elitismCount, options, metrics, workspaces,
+                    rand.split());
+            tuner.pilot(pop, executor);
+            gen += tuner.pilotGenerations();
+            islandCount = tuner.islands();
+            elitismCount = tuner.elitism(pop.tours.size());
+            mutationRate = tuner.mutationRate();
+            Tour fittest = pop.getFittest();
+            if (fittest.getDistance() < bestSoFar.getDistance()) {
+                bestSoFar = fittest.copy();
+                if (options.onImprovement != null) {
+                    options.onImprovement.accept(bestSoFar, gen);
+                }
+            }
+        }
+
+        // Popülasyonu adalara böl: her ada bir çekirdekte bağımsız evrilir
+        IslandModel islands = new IslandModel(pop, islandCount, elitismCount, mutationRate, options, metrics,
+                workspaces, rand.split());
+        int interval = Math.max(1, options.migrationInterval);
+        log(options, "\nAda sayısı: %d, göç aralığı: %d nesil (%s)", islands.size(), interval, options.migration);
+        // Kontrol noktası devam tohumları için ayrı akış (diğer akışları etkilemez)
+        SplittableRandom checkpointRand = rand.split();
+        int checkpointInterval = Math.max(1, options.checkpointInterval);
+
+        // Nesiller boyunca evrim (göçler arası dönemler halinde)
+        long start = System.nanoTime();
+        try (LowerBound bound = startLowerBound(pop, bestSoFar, options)) {
+            // En iyi turun koordinatlardan tam uzunluğu (yalnızca alt sınırla karşılaştırma için)
+            double bestExact = bound != null ? bestSoFar.exactDistance() : 0;
+            while (gen < generations && !expired(options)) {
+                int epoch = Math.min(interval, generations - gen);
+                double bestBefore = bestSoFar.getDistance();
+                long epochStart = System.nanoTime();
+                islands.runEpoch(gen, epoch, executor);
+                long epochNanos = System.nanoTime() - epochStart;
+                int previousGen = gen;
+                gen += epoch;
+                islands.migrate();
+
+                // En iyi çözüm güncellemesi
+                Tour currentBest = islands.getFittest();
+                double currentBestDistance = currentBest.getDistance();
+
+                if (currentBestDistance < bestSoFar.getDistance()) {
+                    bestSoFar = currentBest.copy(); // En iyinin kopyasını al
+                    if (options.onImprovement != null) {
+                        options.onImprovement.accept(bestSoFar, gen);
+                    }
+                    if (bound != null) {
+                        // Alt sınır tam geometride hesaplanır; float matris uzunluğuyla karşılaştırılmaz
+                        bestExact = bestSoFar.exactDistance();
+                        bound.offer(bestExact);
+                    }
+
+                    // İyileşme oldu, sayacı sıfırla
+                    noImprovementCount = 0;
+                } else {
+                    // Ne kadar iyileşme oldu?
+                    double improvementRate = (lastBestDistance - currentBestDistance) / lastBestDistance;
+                    if (improvementRate < improvementThreshold) {
+                        noImprovementCount += epoch;
+                    } else {
+                        noImprovementCount = 0;
+                    }
+                }
+
+                lastBestDistance = currentBestDistance;
+
+                // Otomatik ayar: sonraki dönemin mutasyon oranı, yerel arama bütçesi ve popülasyon boyutu
+                if (tuner != null) {
+                    islands = tuner.update(islands, epoch, bestBefore, bestSoFar.getDistance(), epochNanos);
+                }
+
+                // Her 100 nesilde bir log yaz
+                if (!options.quiet && (previousGen / 100 != gen / 100 || previousGen == 0 || gen == generations)) {
+                    List<Tour> tours = islands.tours();
+                    log(options, "\nNesil %s - En iyi maliyet: %.2f, farklı birey: %d/%d (%.1f sn)%s",
+                            generationText(gen, generations), bestSoFar.getDistance(), distinctTours(tours), tours.size(),
+                            (System.nanoTime() - start) / 1e9, gapText(bound, bestSoFar));
+                }
+
+                // Alt sınıra göre hedef optimallik farkına ulaşıldı mı
+                boolean reached = bound != null && bound.gap(bestExact) <= options.targetGap;
+
+                // Periyodik kontrol noktası (son dönemde de yazılır)
+                boolean last = gen >= generations || noImprovementCount > maxNoImprovement || reached || expired(options);
+                if (options.checkpoint != null && (previousGen / checkpointInterval != gen / checkpointInterval || last)) {
+                    Checkpoint checkpoint = new Checkpoint();
+                    checkpoint.generation = gen;
+                    checkpoint.noImprovementCount = noImprovementCount;
+                    checkpoint.lastBestDistance = lastBestDistance;
+                    checkpoint.seed = checkpointRand.nextLong();
+                    checkpoint.best = bestSoFar.order;
+                    for (Tour tour : islands.tours()) {
+                        checkpoint.tours.add(tour.order);
+                    }
+                    writeCheckpoint(checkpoint, options.checkpoint);
+                }
+
+                // Erken sonlandırma: Belirli bir süre iyileşme olmazsa
+                if (noImprovementCount > maxNoImprovement) {
+                    log(options, "\nSonlandırma: %d nesil boyunca anlamlı iyileşme olmadı.", noImprovementCount);
+                    break;
+                }
+                if (reached) {
+                    log(options, "\nSonlandırma: optimallik farkı %%%.3f, hedef %%%.3f", bound.gap(bestExact),
+                            options.targetGap);
+                    break;
+                }
+            }
+            logBound(options, bound, bestSoFar);
+        } finally {
+            if (tuner != null) {
+                tuner.finish();
+            }
+        }
+
+        logStatistics(options, gen, metrics);
+        return bestSoFar;
+    }
+
+    // Alt sınır yalnızca istenirse ve ilk popülasyon kurulduktan sonra başlar (adım boyu en iyi tura göre)
+    private static LowerBound startLowerBound(Population pop, Tour best, Options options) {
+        return options.lowerBound ? new LowerBound(pop.tours.get(0).instance, best.exactDistance()).start() : null;
+    }
+
+    // İlerleme satırındaki nesil: süre sınırında nesil sayısı sınırsızdır (Integer.MAX_VALUE), payda yazılmaz
+    static String generationText(int gen, int generations) {
+        return generations == Integer.MAX_VALUE ? Integer.toString(gen) : gen + "/" + generations;
+    }
+
+    // İlerleme satırı eki: alt sınır ve optimallik farkı (sınır henüz yoksa boş)
+    static String gapText(LowerBound bound, Tour best) {
+        if (bound == null || bound.bound() == 0) {
+            return "";
+        }
+        return String.format(", alt sınır: %.2f (fark: %%%.3f)", bound.bound(), bound.gap(best.exactDistance()));
+    }
+
+    private static void logBound(Options options, LowerBound bound, Tour best) {
+        if (bound != null && bound.bound() == 0) {
+            log(options, "\nAlt sınır (Held-Karp, %d yineleme): henüz hesaplanmadı", bound.iterations());
+        } else if (bound != null) {
+            log(options, "\nAlt sınır (Held-Karp, %d yineleme): %.2f, optimallik farkı: %%%.3f", bound.iterations(),
+                    bound.bound(), bound.gap(best.exactDistance()));
+        }
+    }
+
+    // Çalıştırma sonu özeti: süre sınırı, yerel arama ve kopya çocuk sayaçları
+    private static void logStatistics(Options options, int gen, Metrics metrics) {
+        if (expired(options)) {
+            log(options, "\nSüre sınırı doldu: %d nesil tamamlandı.", gen);
+        }
+
+        long evaluated = metrics.movesEvaluated.sum();
+        long nanos = metrics.searchNanos.sum();
+        log(options, "\nYerel arama (%s): %d hamle değerlendirildi, %d hamle uygulandı (%.0f hamle/sn)",
+                options.localSearch, evaluated, metrics.movesApplied.sum(), nanos == 0 ? 0 : evaluated / (nanos / 1e9));
+        log(options, "\nKopya çocuk: %d reddedildi", metrics.duplicatesRejected());
+    }
+
+    // İlerleme çıktısı; toplu modda (quiet) veri setleri aynı anda çözüldüğü için yazılmaz
+    static void log(Options options, String format, Object... args) {
+        if (!options.quiet) {
+            System.out.printf(format, args);
+        }
+    }
+
+    static long totalMovesEvaluated() {
+        return movesEvaluated.sum();
+    }
+
+    // Birbirinden farklı (kenar kümesi özeti farklı) birey sayısı
+    static int distinctTours(List<Tour> tours) {
+        LongHashSet hashes = new LongHashSet(tours.size());
+        for (Tour tour : tours) {
+            hashes.add(tour.getHash());
+        }
+        return hashes.size();
+    }
+
+    // Süre sınırı (--time-limit) doldu mu
+    static boolean expired(Options options) {
+        return Deadline.passed(options.deadlineNanos);
+    }
+
+    private static Checkpoint readCheckpoint(String file, TspInstance instance) {
+        try {
+            return Checkpoint.read(file, instance);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kontrol noktası okunamadı: " + file, e);
+        }
+    }
+
+    private static void writeCheckpoint(Checkpoint checkpoint, String file) {
+        try {
+            checkpoint.write(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kontrol noktası yazılamadı: " + file, e);
+        }
+    }
+
+    private static Metrics openMetrics(Options options) {
+        try {
+            return new Metrics(options.metricsFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ölçüm dosyası açılamadı: " + options.metricsFile, e);
+        }
+    }
+
+    // Bir adanın tek neslini üret. Yalnızca adanın kendi iş parçacığında çağrılır;
+    // adalar arasında paylaşılan değişken durum yoktur. metrics null ise sayaç ve zaman ölçümü yok.
+    static void evolveGeneration(Population pop, int elitismCount, double mutationRate, Options options,
+            SplittableRandom rand, Workspace workspace, Metrics metrics) {
+        int size = pop.tours.size();
+        List<Tour> newTours = new ArrayList<>(size);
+        Crossover crossover = workspace.crossover;
+        // Yeni nesildeki turların özetleri: kopyalar değerlendirilmeden ve yerel aramaya girmeden atılır
+        LongHashSet seen = new LongHashSet(size);
+
+        // Elit bireyleri doğrudan yeni nesle ekle (referansla değil, kopya olarak).
+        // Aynı turun kopyaları elit yerlerini doldurmaz; sıradaki farklı tur alınır.
+        pop.tours.sort(Comparator.comparingDouble(Tour::getDistance));
+        for (int i = 0; i < size && newTours.size() < elitismCount; i++) {
+            Tour elite = pop.tours.get(i);
+            if (seen.add(elite.getHash())) {
+                newTours.add(elite.copy());
+            }
+        }
+        int elites = newTours.size();
+        // Popülasyon tümüyle çökmüşse nesil başına en fazla size kopya atılır, sonra kabul edilir
+        int duplicates = 0;
+
+        // Aşama süreleri yalnızca ölçüm açıkken tutulur
+        boolean timed = metrics != null && metrics.enabled;
+        long selectionNanos = 0, crossoverNanos = 0, mutationNanos = 0, localSearchNanos = 0;
+        int evaluations = 0;
+
+        // Yeni bireyleri üret
+        while (newTours.size() < size) {
+            if (expired(options)) {
+                return; // Süre sınırı: yarım nesil atılır, popülasyon değişmeden kalır
+            }
+            long t0 = timed ? System.nanoTime() : 0;
+            Tour parent1 = select(pop, rand);
+            Tour parent2 = select(pop, rand);
+            long t1 = timed ? System.nanoTime() : 0;
+
+            // Crossover ve mutasyon
+            Tour child = crossover.cross(options.crossover, parent1, parent2, rand);
+            long t2 = timed ? System.nanoTime() : 0;
+            if (rand.nextDouble() < mutationRate) {
+                child.mutate(rand, workspace.position);
+            }
+            // Kopya çocuk (örn. iki aynı ebeveynden): bir mutasyonla farklılaştırmayı dene,
+            // yine kopyaysa yerel aramaya girmeden at
+            if (duplicates < size && seen.contains(child.getHash())) {
+                child.mutate(rand, workspace.position);
+                if (seen.contains(child.getHash())) {
+                    duplicates++;
+                    continue;
+                }
+            }
+            long t3 = timed ? System.nanoTime() : 0;
+
+            // Yerel optimizasyon (tüm veri seti boyutlarında)
+            localOptimization(child, null, options, workspace, metrics);
+
+            if (timed) {
+                long t4 = System.nanoTime();
+                selectionNanos += t1 - t0;
+                crossoverNanos += t2 - t1;
+                mutationNanos += t3 - t2;
+                localSearchNanos += t4 - t3;
+            }
+            // Yerel arama farklı çocukları aynı yerel optimuma götürebilir
+            if (!seen.add(child.getHash()) && duplicates < size) {
+                duplicates++;
+                continue;
+            }
+            // Uzunluğu artımlı bilinmeyen çocuk sonraki nesilde tam değerlendirilir
+            if (!child.isEvaluated()) {
+                evaluations++;
+            }
+            newTours.add(child);
+        }
+        if (metrics != null) {
+            metrics.duplicates.add(duplicates);
+        }
+
+        if (timed) {
+            metrics.selectionNanos.add(selectionNanos);
+            metrics.crossoverNanos.add(crossoverNanos);
+            metrics.mutationNanos.add(mutationNanos);
+            metrics.localSearchNanos.add(localSearchNanos);
+            metrics.children.add(size - elites);
+            metrics.evaluations.add(evaluations);
+        }
+
+        // Yeni nesli popülasyona ata
+        pop.tours = newTours;
+    }
+
+    // Çift tamponlu nesil üretimi için ada başına bir kez ayrılan alanlar
+    static final class Buffers {
+        // Arka tampon: her nesilde çocuklar bu turların dizilerine yazılır, sonra ön tamponla yer değiştirir
+        final Population next;
+        final LongHashSet seen;
+        // Elit seçimi için tur indeksleri ve uzunlukları
+        final int[] index;
+        final double[] keys;
+
+        Buffers(Population pop) {
+            int size = pop.tours.size();
+            List<Tour> tours = new ArrayList<>(size);
+            for (Tour tour : pop.tours) {
+                tours.add(tour.copy());
+            }
+            next = new Population(tours);
+            seen = new LongHashSet(size);
+            index = new int[size];
+            keys = new double[size];
+        }
+    }
+
+    // Bir ada (veya kararlı durum işçisi) için yerel arama motorları ve çaprazlama dizileri; nesiller boyunca
+    // yeniden kullanılır. İş parçacığına değil çalıştırmaya aittir: aynı anda yalnızca sahibi olan görev
+    // kullanır ve çalıştırma bitince veri setiyle birlikte bırakılır (havuz iş parçacıkları tutmaz).
+    static final class Workspace {
+        final LocalSearch[] engines;
+        final Crossover crossover;
+        // Mutasyonun şehir -> konum dizisi (Tour.mutate)
+        final int[] position;
+
+        Workspace(TspInstance instance, Options options) {
+            crossover = new Crossover(instance);
+            position = new int[instance.size()];
+            String[] names = options.localSearch.split("\\+");
+            engines = new LocalSearch[names.length];
+            for (int i = 0; i < names.length; i++) {
+                engines[i] = LocalSearch.create(names[i], instance, options.twoLevelMinCities);
+            }
+        }
+    }
+
+    // Çalıştırma başına çalışma alanları: i. ada veya işçi i. alanı kullanır; ada sayısı değişse de
+    // (otomatik ayar) alanlar yeniden ayrılmaz. Dönem aralarında çağıran iş parçacığı 0. alanı kullanır.
+    static final class Workspaces {
+        private final TspInstance instance;
+        private final Options options;
+        private final List<Workspace> workspaces = new ArrayList<>();
+
+        Workspaces(TspInstance instance, Options options) {
+            this.instance = instance;
+            this.options = options;
+        }
+
+        // Alan ilk kullanımda, onu kullanacak görevin iş parçacığında ayrılır
+        synchronized Workspace get(int index) {
+            while (workspaces.size() <= index) {
+                workspaces.add(null);
+            }
+            Workspace workspace = workspaces.get(index);
+            if (workspace == null) {
+                workspace = new Workspace(instance, options);
+                workspaces.set(index, workspace);
+            }
+            return workspace;
+        }
+    }
+
+    // Çift tamponlu nesil (--double-buffer): çocuklar arka tampondaki hazır turların dizilerine
+    // yerinde yazılır ve nesil sonunda tamponlar yer değiştirir. Elitler tam sıralama yerine
+    // kısmi seçimle bulunur. Kararlı durumda nesil başına nesne veya dizi ayrılmaz.
+    static void evolveGenerationInPlace(Population pop, Buffers buffers, int elitismCount, double mutationRate,
+            Options options, SplittableRandom rand, Workspace workspace, Metrics metrics) {
+        List<Tour> current = pop.tours;
+        List<Tour> next = buffers.next.tours;
+        int size = current.size();
+        Crossover crossover = workspace.crossover;
+        LongHashSet seen = buffers.seen;
+        seen.clear();
+
+        int filled = copyElites(current, elitismCount, buffers, next);
+        int elites = filled;
+        int duplicates = 0;
+
+        boolean timed = metrics != null && metrics.enabled;
+        long selectionNanos = 0, crossoverNanos = 0, mutationNanos = 0, localSearchNanos = 0;
+        int evaluations = 0;
+
+        while (filled < size) {
+            if (expired(options)) {
+                return; // Süre sınırı: arka tampon atılır, popülasyon değişmeden kalır
+            }
+            long t0 = timed ? System.nanoTime() : 0;
+            Tour parent1 = select(pop, rand);
+            Tour parent2 = select(pop, rand);
+            long t1 = timed ? System.nanoTime() : 0;
+
+            // Reddedilen çocuğun yuvası bir sonraki çocukla yeniden yazılır
+            Tour child = next.get(filled);
+            crossover.crossInto(options.crossover, parent1, parent2, rand, child);
+            long t2 = timed ? System.nanoTime() : 0;
+            if (rand.nextDouble() < mutationRate) {
+                child.mutate(rand, workspace.position);
+            }
+            if (duplicates < size && seen.contains(child.getHash())) {
+                child.mutate(rand, workspace.position);
+                if (seen.contains(child.getHash())) {
+                    duplicates++;
+                    continue;
+                }
+            }
+            long t3 = timed ? System.nanoTime() : 0;
+
+            localOptimization(child, null, options, workspace, metrics);
+
+            if (timed) {
+                long t4 = System.nanoTime();
+                selectionNanos += t1 - t0;
+                crossoverNanos += t2 - t1;
+                mutationNanos += t3 - t2;
+                localSearchNanos += t4 - t3;
+            }
+            if (!seen.add(child.getHash()) && duplicates < size) {
+                duplicates++;
+                continue;
+            }
+            if (!child.isEvaluated()) {
+                evaluations++;
+            }
+            filled++;
+        }
+        if (metrics != null) {
+            metrics.duplicates.add(duplicates);
+        }
+
+        if (timed) {
+            metrics.selectionNanos.add(selectionNanos);
+            metrics.crossoverNanos.add(crossoverNanos);
+            metrics.mutationNanos.add(mutationNanos);
+            metrics.localSearchNanos.add(localSearchNanos);
+            metrics.children.add(size - elites);
+            metrics.evaluations.add(evaluations);
+        }
+
+        pop.tours = next;
+        buffers.next.tours = current;
+    }
+
+    // En kısa count farklı turu artan sırayla arka tamponun başına kopyala; kopyalanan sayıyı döndür.
+    // Turlar count'luk gruplar halinde kısmi seçimle (quickselect) bulunur; yalnızca grup sıralanır.
+    private static int copyElites(List<Tour> tours, int count, Buffers buffers, List<Tour> next) {
+        int size = tours.size();
+        int[] index = buffers.index;
+        double[] keys = buffers.keys;
+        for (int i = 0; i < size; i++) {
+            index[i] = i;
+            keys[i] = tours.get(i).getDistance();
+        }
+        int filled = 0;
+        int from = 0;
+        while (filled < count && from < size) {
+            int group = Math.min(count - filled, size - from);
+            selectSmallest(index, keys, from, size - 1, from + group - 1);
+            // Grup içinde eklemeli sıralama (grup elit sayısı kadardır)
+            for (int i = from + 1; i < from + group; i++) {
+                int current = index[i];
+                int j = i - 1;
+                while (j >= from && keys[index[j]] > keys[current]) {
+                    index[j + 1] = index[j];
+                    j--;
+                }
+                index[j + 1] = current;
+            }
+            for (int i = from; i < from + group && filled < count; i++) {
+                Tour elite = tours.get(index[i]);
+                if (buffers.seen.add(elite.getHash())) {
+                    next.get(filled++).copyFrom(elite);
+                }
+            }
+            from += group;
+        }
+        return filled;
+    }
+
+    // Quickselect: index[k] konumuna [from, to] aralığının k'ıncı en kısa turu gelir, solundakiler daha kısa
+    private static void selectSmallest(int[] index, double[] keys, int from, int to, int k) {
+        while (from < to) {
+            double pivot = keys[index[(from + to) >>> 1]];
+            int i = from, j = to;
+            while (i <= j) {
+                while (keys[index[i]] < pivot) i++;
+                while (keys[index[j]] > pivot) j--;
+                if (i <= j) {
+                    int temp = index[i];
+                    index[i] = index[j];
+                    index[j] = temp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                to = j;
+            } else if (k >= i) {
+                from = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Nearest Neighbor yaklaşımı ile popülasyona başlangıç çözümleri ekle
+    static void initializePopulationWithHeuristicTours(Population pop, Options options,
+            SplittableRandom rand, Workspace workspace, Metrics metrics) {
+        if (pop.tours.isEmpty() || pop.tours.get(0).size() == 0) {
+            return;
+        }
+
+        // Popülasyonun %20'si için daha iyi başlangıç çözümleri oluştur
+        int heuristicCount = Math.min(20, pop.tours.size() / 5);
+        TspInstance instance = pop.tours.get(0).instance;
+        int n = instance.size();
+
+        for (int i = 0; i < heuristicCount; i++) {
+            if (expired(options)) {
+                break; // Süre sınırı: kalan bireyler rastgele turlar olarak kalır
+            }
+            // Rastgele bir başlangıç şehri seç
+            int[] newTour = nearestNeighborOrder(instance, rand.nextInt(n));
+
+            // Yeni turu 2-opt ile iyileştirip popülasyona ekle
+            Tour tour = Tour.wrap(instance, newTour);
+            localOptimization(tour, null, options, workspace, metrics);
+            pop.tours.set(i, tour);
+        }
+    }
+
+    // En yakın komşu turu: önce aday listesine bakılır, tüm adaylar ziyaret
+    // edilmişse k-d ağacında kalan en yakın şehir aranır (yaklaşık O(n log n))
+    static int[] nearestNeighborOrder(TspInstance instance, int start) {
+        int n = instance.size();
+        int[] candidates = instance.candidates;
+        int k = instance.candidateCount;
+        int[] order = new int[n];
+        KdTree.Remaining remaining = instance.tree.remaining();
+
+        int current = start;
+        order[0] = current;
+        remaining.remove(current);
+
+        // Geri kalan şehirleri en yakın komşu yaklaşımıyla ekle
+        for (int j = 1; j < n; j++) {
+            int next = -1;
+
+            // Adaylar artan mesafe sırasında: ziyaret edilmemiş ilk aday en yakın şehirdir
+            for (int m = 0; m < k; m++) {
+                int candidate = candidates[current * k + m];
+                if (!remaining.isRemoved(candidate)) {
+                    next = candidate;
+                    break;
+                }
+            }
+            if (next == -1) {
+                next = remaining.nearest(current);
+            }
+
+            current = next;
+            order[j] = current;
+            remaining.remove(current);
+        }
+        return order;
+    }
+
+    // Sıcak başlangıç: sonuç dosyasındaki bu veri setine ait en iyi tur popülasyona
+    // eklenir. Kopyalarının bir kısmı mutasyon ve yerel aramayla çeşitlendirilir.
+    static void warmStart(Population pop, Options options, SplittableRandom rand, Workspace workspace,
+            Metrics metrics) {
+        TspInstance instance = pop.tours.get(0).instance;
+        int[] order;
+        try {
+            order = ResultsStore.bestTour(options.file, instance);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Sonuç dosyası okunamadı", e);
+        }
+        if (order == null) {
+            log(options, "\nSıcak başlangıç: %s için kayıtlı tur bulunamadı", options.file);
+            return;
+        }
+
+        Tour seed = Tour.wrap(instance, order);
+        localOptimization(seed, null, options, workspace, metrics);
+        // Sezgisel turların yerine yazmamak için onlardan sonra yerleştir
+        int size = pop.tours.size();
+        int offset = Math.min(20, size / 5);
+        int copies = Math.max(1, size / 10);
+        for (int i = 0; i < copies; i++) {
+            Tour tour = seed.copy();
+            if (i > 0) {
+                for (int m = 0; m < WARM_START_MUTATIONS; m++) {
+                    tour.mutate(rand, workspace.position);
+                }
+                localOptimization(tour, null, options, workspace, metrics);
+            }
+            pop.tours.set((offset + i) % size, tour);
+        }
+        log(options, "\nSıcak başlangıç: kayıtlı en iyi tur (%.2f) ve %d türevi eklendi", seed.getDistance(),
+                copies - 1);
+    }
+
+    // Yerel optimizasyon: seçeneklerde verilen motor zinciri (örn. 2opt+oropt) sırayla,
+    // hiçbiri iyileştiremeyene kadar çalıştırılır. Her motor aday listeli ve
+    // don't-look bit'lidir; bütçe motor çağrısı başınadır.
+    static void localOptimization(Tour tour, Options options) {
+        localOptimization(tour, null, options);
+    }
+
+    // Arama yalnızca verilen şehirlerden başlar (null: tüm şehirler)
+    // Tek seferlik çağrılar (örn. ayrıştırmada sınır onarımı) için: motorlar bu çağrıya ayrılır
+    static void localOptimization(Tour tour, int[] initial, Options options) {
+        localOptimization(tour, initial, options, new Workspace(tour.instance, options), null);
+    }
+
+    // Motorlar çağıranın çalışma alanından gelir (ada veya işçi başına, çalıştırma boyunca yeniden
+    // kullanılır). Hamle sayaçları metrics null değilse o çalıştırmanın toplamlarına da eklenir.
+    static void localOptimization(Tour tour, int[] initial, Options options, Workspace workspace, Metrics metrics) {
+        LocalSearch[] engines = workspace.engines;
+
+        long deadline = options.localSearchMillis > 0
+                ? Deadline.at(System.nanoTime() + options.localSearchMillis * 1_000_000L)
+                : Deadline.NONE;
+        // Genel süre sınırı çocuk başına bütçeden önce dolabilir
+        deadline = Deadline.earlier(deadline, options.deadlineNanos);
+        // Hamle bütçesi çocuk başınadır: zincirdeki motorlar ve turlar aynı kalanı paylaşır (<= 0: sınırsız)
+        long budget = options.localSearchMoves;
+        long remaining = budget;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (LocalSearch engine : engines) {
+                double gain = engine.optimize(tour, initial, remaining, deadline);
+                if (gain > 0) {
+                    // Uzunluğu kazanç kadar güncelle (tam yeniden hesaplama yok); özet yeniden hesaplanır
+                    tour.adjustDistance(-gain);
+                    tour.resetHash();
+                    // Tek motorlu zincirde motor zaten yerel optimumdadır
+                    improved = engines.length > 1;
+                }
+
+                movesEvaluated.add(engine.getMovesEvaluated());
+                if (metrics != null) {
+                    metrics.movesEvaluated.add(engine.getMovesEvaluated());
+                    metrics.movesApplied.add(engine.getMovesApplied());
+                    metrics.searchNanos.add(engine.getElapsedNanos());
+                }
+                if (budget > 0) {
+                    remaining -= engine.getMovesApplied();
+                    if (remaining <= 0) {
+                        return;
+                    }
+                }
+            }
+            if (Deadline.passed(deadline)) {
+                break;
+            }
+        }
+    }
+
+    private static Tour select(Population pop, SplittableRandom rand) {
+        // Turnuva seçimi: ara liste oluşturmadan en iyiyi izle
+        Tour best = pop.tours.get(rand.nextInt(pop.tours.size()));
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            Tour current = pop.tours.get(rand.nextInt(pop.tours.size()));
+            if (current.getDistance() < best.getDistance()) {
+                best = current;
+            }
+        }
+
+        return best;
+    }
+
+    // Program sonlandığında ExecutorService'i kapat
+    public static void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package tsp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Veri dosyası yükleyici. Metin dosyası belleğe eşlenir ve sayılar doğrudan
+// bayt tamponundan ayrıştırılır (regex, String veya satır nesnesi yok).
+// İsteğe bağlı ikili yan dosya (<dosya>.bin) ilk yüklemede yazılır ve sonraki
+// çalıştırmalarda doğrudan belleğe eşlenerek okunur.
+public class InstanceLoader {
+    static final String BINARY_SUFFIX = ".bin";
+    // İkili biçim: sihirli sayı, sürüm, şehir sayısı, ardından tüm x'ler ve tüm y'ler
+    private static final int MAGIC = 0x54535042; // "TSPB"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    // 10^0 .. 10^22 double olarak tam temsil edilir
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        double p = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = p;
+            p *= 10;
+        }
+    }
+
+    public static TspInstance load(String fileName, boolean binaryCache) throws IOException {
+        Path path = Paths.get(fileName);
+        Path binary = Paths.get(fileName + BINARY_SUFFIX);
+
+        if (binaryCache && Files.exists(binary)
+                && Files.getLastModifiedTime(binary).compareTo(Files.getLastModifiedTime(path)) >= 0) {
+            TspInstance cached = readBinary(binary);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        TspInstance instance = readText(path);
+        if (binaryCache) {
+            writeBinary(binary, instance);
+        }
+        return instance;
+    }
+
+    // Metin biçimi: ilk sayı şehir sayısı, ardından boşluk veya virgülle ayrılmış x y çiftleri
+    static TspInstance readText(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // Metin biçimindeki veriyi bellekteki bir tampondan ayrıştır (örn. sunucu isteği gövdesi)
+    static TspInstance parse(ByteBuffer buffer) {
+        NumberParser parser = new NumberParser(buffer);
+        int size = (int) parser.next();
+        if (size < 0) {
+            throw new IllegalArgumentException("Geçersiz şehir sayısı: " + size);
+        }
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = parser.next();
+            ys[i] = parser.next();
+        }
+        return new TspInstance(xs, ys);
+    }
+
+    // Sürüm veya boyut uyuşmazsa null döner (yan dosya yeniden yazılır)
+    static TspInstance readBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            int size = buffer.getInt();
+            if (size < 0 || fileSize != HEADER_BYTES + 2L * size * Double.BYTES) {
+                return null;
+            }
+            double[] xs = new double[size];
+            double[] ys = new double[size];
+            buffer.asDoubleBuffer().get(xs).get(ys);
+            return new TspInstance(xs, ys);
+        }
+    }
+
+    static void writeBinary(Path path, TspInstance instance) throws IOException {
+        int size = instance.size();
+        long length = HEADER_BYTES + 2L * size * Double.BYTES;
+        Path temp = Paths.get(path + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(size);
+            buffer.asDoubleBuffer().put(instance.xs).put(instance.ys);
+            buffer.force();
+        }
+        // Yarım yazılmış dosya okunmasın diye yerine taşı
+        Files.move(temp, path, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Bayt tamponundan ondalık sayı ayrıştırıcı: [-+]rakamlar[.rakamlar][e[-+]rakamlar]
+    private static final class NumberParser {
+        private final ByteBuffer buffer;
+        private final int limit;
+        private int position;
+
+        NumberParser(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+        }
+
+        double next() {
+            // Ayırıcıları (boşluk, satır sonu, virgül) atla
+            while (position < limit) {
+                byte c = buffer.get(position);
+                if (c != ' ' && c != ',' && c != '\n' && c != '\r' && c != '\t') {
+                    break;
+                }
+                position++;
+            }
+            if (position >= limit) {
+                throw new IllegalArgumentException("Dosya beklenenden önce bitti");
+            }
+
+            int start = position;
+            boolean negative = false;
+            byte c = buffer.get(position);
+            if (c == '-' || c == '+') {
+                negative = c == '-';
+                position++;
+            }
+
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean dot = false;
+            boolean any = false;
+            while (position < limit) {
+                c = buffer.get(position);
+                if (c >= '0' && c <= '9') {
+                    any = true;
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        if (mantissa != 0) {
+                            digits++;
+                        }
+                        if (dot) {
+                            exponent--;
+                        }
+                    } else if (!dot) {
+                        exponent++; // Sığmayan tam sayı basamakları
+                    }
+                } else if (c == '.' && !dot) {
+                    dot = true;
+                } else {
+                    break;
+                }
+                position++;
+            }
+            if (!any) {
+                throw new IllegalArgumentException("Geçersiz sayı, konum " + start);
+            }
+
+            if (position < limit && (buffer.get(position) == 'e' || buffer.get(position) == 'E')) {
+                position++;
+                boolean negativeExponent = false;
+                if (position < limit && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+                    negativeExponent = buffer.get(position) == '-';
+                    position++;
+                }
+                int e = 0;
+                while (position < limit && buffer.get(position) >= '0' && buffer.get(position) <= '9') {
+                    e = e * 10 + (buffer.get(position) - '0');
+                    position++;
+                }
+                exponent += negativeExponent ? -e : e;
+            }
+
+            double value;
+            if (mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+                // Tek bir IEEE işlemi: doğru yuvarlanmış sonuç
+                value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            } else {
+                // Nadir durum: standart ayrıştırıcıya bırak
+                byte[] text = new byte[position - start];
+                for (int i = 0; i < text.length; i++) {
+                    text[i] = buffer.get(start + i);
+                }
+                return Double.parseDouble(new String(text, java.nio.charset.StandardCharsets.US_ASCII));
+            }
+            return negative ? -value : value;
+        }
+    }
+}
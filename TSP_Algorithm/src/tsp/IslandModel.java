@@ -0,0 +1,198 @@
+package tsp;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// Ada modeli: popülasyon çekirdek başına bir alt popülasyona bölünür. Her ada
+// kendi iş parçacığında, diğerlerinden bağımsız ve kilitsiz evrilir; belirli
+// aralıklarla adaların en iyi bireyleri komşu adalara göç eder.
+public class IslandModel {
+    // Bir adada olması gereken en az birey sayısı
+    static final int MIN_ISLAND_SIZE = 10;
+
+    private final Population[] islands;
+    // Her adanın kendi rastgele akışı: aynı tohum ve ada sayısı aynı sonucu verir
+    private final SplittableRandom[] randoms;
+    private final int[] elitismCounts;
+    // Çift tamponlu modda adaların arka tamponları; diğer modda null
+    private final GeneticAlgorithm.Buffers[] buffers;
+    // Otomatik ayar dönem aralarında değiştirebilir
+    private double mutationRate;
+    private final Options options;
+    // Bu çalıştırmanın ölçümleri (null: sayaç yok)
+    private final Metrics metrics;
+    // Adaların yerel arama motorları (i. ada i. alanı kullanır)
+    private final GeneticAlgorithm.Workspaces workspaces;
+    private final SplittableRandom migrationRand;
+    // Dönem kesildiğinde hâlâ çalışan adalar bir sonraki nesilden önce durur
+    private volatile boolean cancelled;
+
+    public IslandModel(Population pop, int islandCount, int elitismCount, double mutationRate, Options options,
+            Metrics metrics, GeneticAlgorithm.Workspaces workspaces, SplittableRandom rand) {
+        int total = pop.tours.size();
+        islandCount = Math.max(1, Math.min(islandCount, total / MIN_ISLAND_SIZE));
+        this.islands = new Population[islandCount];
+        this.randoms = new SplittableRandom[islandCount];
+        this.elitismCounts = new int[islandCount];
+        this.mutationRate = mutationRate;
+        this.options = options;
+        this.metrics = metrics;
+        this.workspaces = workspaces;
+
+        // Bireyleri adalara sırayla dağıt (sezgisel turlar da adalara yayılır)
+        for (int i = 0; i < islandCount; i++) {
+            islands[i] = new Population(new ArrayList<>(total / islandCount + 1));
+            randoms[i] = rand.split();
+        }
+        this.migrationRand = rand.split();
+        for (int i = 0; i < total; i++) {
+            islands[i % islandCount].tours.add(pop.tours.get(i));
+        }
+        for (int i = 0; i < islandCount; i++) {
+            // Elit sayısı ada boyutuyla orantılı
+            int size = islands[i].tours.size();
+            elitismCounts[i] = Math.max(1, Math.min(size - 1, elitismCount * size / total));
+        }
+        this.buffers = options.doubleBuffer ? new GeneticAlgorithm.Buffers[islandCount] : null;
+        if (buffers != null) {
+            for (int i = 0; i < islandCount; i++) {
+                buffers[i] = new GeneticAlgorithm.Buffers(islands[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return islands.length;
+    }
+
+    // Yalnızca dönem aralarında çağrılır (görevler her dönemde yeniden gönderilir)
+    void setMutationRate(double mutationRate) {
+        this.mutationRate = mutationRate;
+    }
+
+    // Her ada, bir sonraki göçe kadar verilen sayıda nesil boyunca bağımsız evrilir; generation
+    // dönemden önceki nesil sayısıdır. Ölçüm açıksa adalar nesil nesil ilerletilir ve her nesilden
+    // sonra, tüm adalar aynı nesildeyken bir satır yazılır. Adalar dönem içinde birbirinden bağımsız
+    // olduğundan bu yalnızca görev zamanlamasını değiştirir; arama ve göç aralığı aynı kalır.
+    public void runEpoch(int generation, int generations, ExecutorService executor) {
+        if (metrics == null || !metrics.enabled) {
+            evolve(generations, executor);
+            if (metrics != null) {
+                // Ölçüm kapalıyken yalnızca hamle sayaçlarının başlangıcı güncellenir ve JFR kaydı denetlenir
+                metrics.record(generation + generations, null, null);
+            }
+            return;
+        }
+        for (int g = 1; g <= generations && !GeneticAlgorithm.expired(options); g++) {
+            evolve(1, executor);
+            metrics.record(generation + g, tours(), getFittest());
+        }
+    }
+
+    // Bekleyen iş parçacığı kesilirse veya bir ada başarısız olursa kalan adalar iptal edilir ve
+    // IllegalStateException fırlatılır; yarım kalmış dönemden sonra göç yapılmaz.
+    private void evolve(int generations, ExecutorService executor) {
+        List<Callable<Void>> tasks = new ArrayList<>(islands.length);
+        for (int i = 0; i < islands.length; i++) {
+            int island = i;
+            tasks.add(() -> {
+                GeneticAlgorithm.Workspace workspace = workspaces.get(island);
+                for (int g = 0; g < generations && !cancelled && !GeneticAlgorithm.expired(options); g++) {
+                    if (buffers != null) {
+                        GeneticAlgorithm.evolveGenerationInPlace(islands[island], buffers[island],
+                                elitismCounts[island], mutationRate, options, randoms[island], workspace, metrics);
+                    } else {
+                        GeneticAlgorithm.evolveGeneration(islands[island], elitismCounts[island], mutationRate,
+                                options, randoms[island], workspace, metrics);
+                    }
+                }
+                return null;
+            });
+        }
+
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ada evrimi kesildi", e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            throw new IllegalStateException("Ada evrimi başarısız oldu", e.getCause());
+        }
+    }
+
+    // Başlamamış adalar hiç çalışmaz, çalışanlar bir sonraki nesilden önce durur
+    private void cancel(List<Future<Void>> futures) {
+        cancelled = true;
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    // Her adanın en iyi bireylerinin kopyaları hedef adanın en kötü bireylerinin yerini alır.
+    // "ring": ada i -> i+1, "random": her göçte rastgele bir kaydırma ile eşleşen ada.
+    public void migrate() {
+        int count = islands.length;
+        if (count < 2) {
+            return;
+        }
+        int shift = options.migration.equals("random") ? 1 + migrationRand.nextInt(count - 1) : 1;
+
+        // Önce tüm göçmenleri belirle, sonra yerleştir (göç sırası sonucu etkilemesin). Göçmenler
+        // adanın en iyi yarısından, yerleştirme en kötü yarısına yapıldığından kaynaklar göç
+        // sırasında değişmez; göçmenler hedefteki turların dizilerine kopyalanır.
+        List<List<Tour>> migrants = new ArrayList<>(count);
+        for (Population island : islands) {
+            island.tours.sort(Comparator.comparingDouble(Tour::getDistance));
+            int m = Math.min(options.migrants, island.tours.size() / 2);
+            migrants.add(island.tours.subList(0, m));
+        }
+        for (int i = 0; i < count; i++) {
+            List<Tour> target = islands[(i + shift) % count].tours;
+            LongHashSet present = new LongHashSet(target.size());
+            for (Tour tour : target) {
+                present.add(tour.getHash());
+            }
+            // Hedef adada zaten bulunan göçmen yer kaplamaz
+            int placed = 0;
+            for (Tour migrant : migrants.get(i)) {
+                if (present.add(migrant.getHash())) {
+                    target.get(target.size() - 1 - placed++).copyFrom(migrant);
+                }
+            }
+        }
+    }
+
+    // Tüm adaların bireyleri, kurucudaki dağıtımla aynı sırada (i. birey i % adaSayısı.
+    // adaya ait); aynı ada sayısıyla yeniden kurulan model aynı adaları verir.
+    // Yalnızca dönem aralarında çağrılır.
+    public List<Tour> tours() {
+        int total = 0;
+        for (Population island : islands) {
+            total += island.tours.size();
+        }
+        List<Tour> all = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            all.add(islands[i % islands.length].tours.get(i / islands.length));
+        }
+        return all;
+    }
+
+    public Tour getFittest() {
+        Tour best = null;
+        for (Population island : islands) {
+            Tour candidate = island.getFittest();
+            if (best == null || candidate.getDistance() < best.getDistance()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,257 @@
+package tsp;
+
+import java.util.Arrays;
+
+// Şehir koordinatları üzerinde 2 boyutlu k-d ağacı. Ağaç bir kez kurulur ve
+// salt okunur olarak paylaşılır; silme gerektiren sorgular kendi Remaining
+// durumlarını kullanır.
+public class KdTree {
+    private static final int LEAF_SIZE = 8;
+
+    private final double[] xs;
+    private final double[] ys;
+    // Yapraklardaki şehirler, düğüm aralıkları bu dizinin [lo, hi) dilimleridir
+    private final int[] points;
+    // points sırasındaki koordinatlar ve her şehrin points içindeki konumu: yaprak
+    // taramaları ardışık bellekten okunur (SIMD çekirdekleri için)
+    private final double[] leafXs;
+    private final double[] leafYs;
+    private final int[] position;
+    private final DistanceKernels kernels;
+
+    // Düğüm dizileri (0 kök)
+    private final int[] lo;
+    private final int[] hi;
+    private final int[] left;   // -1 ise yaprak
+    private final int[] right;
+    private final int[] parent;
+    private final boolean[] splitX;
+    private final double[] split;
+    private int nodeCount;
+    // Her şehrin bulunduğu yaprak düğüm
+    private final int[] leafOf;
+
+    public KdTree(double[] xs, double[] ys) {
+        this(xs, ys, DistanceKernels.INSTANCE);
+    }
+
+    public KdTree(double[] xs, double[] ys, DistanceKernels kernels) {
+        this.xs = xs;
+        this.ys = ys;
+        this.kernels = kernels;
+        int n = xs.length;
+        points = new int[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = i;
+        }
+
+        // Yapraklar en az LEAF_SIZE / 2 şehir içerir
+        int maxNodes = 2 * (n / (LEAF_SIZE / 2) + 1);
+        lo = new int[maxNodes];
+        hi = new int[maxNodes];
+        left = new int[maxNodes];
+        right = new int[maxNodes];
+        parent = new int[maxNodes];
+        splitX = new boolean[maxNodes];
+        split = new double[maxNodes];
+        leafOf = new int[n];
+        build(0, n, -1);
+
+        leafXs = new double[n];
+        leafYs = new double[n];
+        position = new int[n];
+        for (int i = 0; i < n; i++) {
+            leafXs[i] = xs[points[i]];
+            leafYs[i] = ys[points[i]];
+            position[points[i]] = i;
+        }
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    private int build(int from, int to, int up) {
+        int node = nodeCount++;
+        lo[node] = from;
+        hi[node] = to;
+        left[node] = -1;
+        right[node] = -1;
+        parent[node] = up;
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                leafOf[points[i]] = node;
+            }
+            return node;
+        }
+
+        // Yayılımı büyük olan eksende ortanca değerden böl
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            int p = points[i];
+            minX = Math.min(minX, xs[p]);
+            maxX = Math.max(maxX, xs[p]);
+            minY = Math.min(minY, ys[p]);
+            maxY = Math.max(maxY, ys[p]);
+        }
+        boolean byX = maxX - minX >= maxY - minY;
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, byX ? xs : ys);
+
+        splitX[node] = byX;
+        split[node] = byX ? xs[points[mid]] : ys[points[mid]];
+        int l = build(from, mid, node);
+        int r = build(mid, to, node);
+        left[node] = l;
+        right[node] = r;
+        return node;
+    }
+
+    // Quickselect: points[k] konumuna k'ıncı küçük değeri yerleştir
+    private void select(int from, int to, int k, double[] key) {
+        while (from < to) {
+            double pivot = key[points[(from + to) >>> 1]];
+            int i = from, j = to;
+            while (i <= j) {
+                while (key[points[i]] < pivot) i++;
+                while (key[points[j]] > pivot) j--;
+                if (i <= j) {
+                    int temp = points[i];
+                    points[i] = points[j];
+                    points[j] = temp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                to = j;
+            } else if (k >= i) {
+                from = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Her şehir için en yakın k komşuyu artan mesafe sırasıyla döndürür (n * k düz dizi)
+    public int[] nearestNeighbors(int k) {
+        int n = points.length;
+        k = Math.min(k, Math.max(n - 1, 0));
+        int[] result = new int[n * k];
+        if (k == 0) {
+            return result;
+        }
+        int[] bestIdx = new int[k];
+        double[] bestDist = new double[k];
+        for (int city = 0; city < n; city++) {
+            Arrays.fill(bestDist, Double.MAX_VALUE);
+            Arrays.fill(bestIdx, -1);
+            knn(0, city, xs[city], ys[city], bestIdx, bestDist);
+            System.arraycopy(bestIdx, 0, result, city * k, k);
+        }
+        return result;
+    }
+
+    private void knn(int node, int self, double x, double y, int[] bestIdx, double[] bestDist) {
+        int k = bestIdx.length;
+        if (left[node] < 0) {
+            for (int i = lo[node]; i < hi[node]; i++) {
+                int p = points[i];
+                if (p == self) {
+                    continue;
+                }
+                double dx = xs[p] - x;
+                double dy = ys[p] - y;
+                double d = dx * dx + dy * dy;
+                if (d < bestDist[k - 1]) {
+                    // Sıralı ekleme
+                    int pos = k - 1;
+                    while (pos > 0 && bestDist[pos - 1] > d) {
+                        bestDist[pos] = bestDist[pos - 1];
+                        bestIdx[pos] = bestIdx[pos - 1];
+                        pos--;
+                    }
+                    bestDist[pos] = d;
+                    bestIdx[pos] = p;
+                }
+            }
+            return;
+        }
+
+        double diff = (splitX[node] ? x : y) - split[node];
+        int near = diff < 0 ? left[node] : right[node];
+        int far = diff < 0 ? right[node] : left[node];
+        knn(near, self, x, y, bestIdx, bestDist);
+        if (diff * diff < bestDist[k - 1]) {
+            knn(far, self, x, y, bestIdx, bestDist);
+        }
+    }
+
+    public Remaining remaining() {
+        return new Remaining();
+    }
+
+    // Silinebilir şehir kümesi: en yakın komşu turu kurarken ziyaret edilen
+    // şehirler silinir, boşalan alt ağaçlar aramada tamamen atlanır.
+    public final class Remaining {
+        private final int[] alive;
+        // points konumuna göre (şehir indeksine göre değil)
+        private final boolean[] removed;
+        private int best;
+        private double bestDist;
+
+        private Remaining() {
+            alive = new int[nodeCount];
+            removed = new boolean[points.length];
+            for (int node = 0; node < nodeCount; node++) {
+                alive[node] = hi[node] - lo[node];
+            }
+        }
+
+        public void remove(int city) {
+            if (removed[position[city]]) {
+                return;
+            }
+            removed[position[city]] = true;
+            for (int node = leafOf[city]; node >= 0; node = parent[node]) {
+                alive[node]--;
+            }
+        }
+
+        public boolean isRemoved(int city) {
+            return removed[position[city]];
+        }
+
+        // Silinmemiş en yakın şehir; küme boşsa -1
+        public int nearest(int city) {
+            best = -1;
+            bestDist = Double.MAX_VALUE;
+            search(0, xs[city], ys[city]);
+            return best;
+        }
+
+        private void search(int node, double x, double y) {
+            if (alive[node] == 0) {
+                return;
+            }
+            if (left[node] < 0) {
+                int i = kernels.nearest(x, y, leafXs, leafYs, removed, lo[node], hi[node], bestDist);
+                if (i >= 0) {
+                    double dx = leafXs[i] - x;
+                    double dy = leafYs[i] - y;
+                    bestDist = dx * dx + dy * dy;
+                    best = points[i];
+                }
+                return;
+            }
+            double diff = (splitX[node] ? x : y) - split[node];
+            int near = diff < 0 ? left[node] : right[node];
+            int far = diff < 0 ? right[node] : left[node];
+            search(near, x, y);
+            if (diff * diff < bestDist) {
+                search(far, x, y);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package tsp;
+
+// Aday komşu listeli yerel arama motorları için ortak altyapı: tur listesi,
+// don't-look bit kuyruğu, bütçe kontrolü ve yönden bağımsız 2-opt hamlesi.
+// Bir örnek tek bir iş parçacığı tarafından kullanılır; çalışma dizileri
+// turlar arasında yeniden kullanılır.
+public abstract class LocalSearch {
+    // Kayan nokta yuvarlama hatalarından doğan sonsuz döngüleri önler
+    static final double EPSILON = 1e-7;
+
+    protected final TspInstance instance;
+    protected final int[] candidates;
+    protected final int k;
+
+    // Büyük veri setlerinde iki seviyeli liste, diğerlerinde dizi
+    protected final TourList tour;
+    protected int n;
+    private final int[] queue;        // işlenecek (don't-look bit'i kapalı) şehirler
+    private final boolean[] queued;
+    private int head;
+    private int count;
+
+    // Son optimize çağrısının istatistikleri
+    protected long movesEvaluated;
+    private long movesApplied;
+    private long elapsedNanos;
+
+    protected LocalSearch(TspInstance instance, TourList tour) {
+        this.instance = instance;
+        this.candidates = instance.candidates;
+        this.k = instance.candidateCount;
+        this.tour = tour;
+        int size = instance.size();
+        this.queue = new int[size];
+        this.queued = new boolean[size];
+    }
+
+    // Adı verilen motoru oluştur: "2opt", "oropt" veya "or3opt". Şehir sayısı
+    // twoLevelMinCities veya üzerindeyse (0: hiçbir zaman) iki seviyeli liste kullanılır.
+    public static LocalSearch create(String name, TspInstance instance, int twoLevelMinCities) {
+        int size = instance.size();
+        TourList tour = twoLevelMinCities > 0 && size >= twoLevelMinCities
+                ? new TwoLevelTourList(size)
+                : new ArrayTourList(size);
+        switch (name) {
+            case "2opt":
+                return new TwoOpt(instance, tour);
+            case "oropt":
+                return new OrOpt(instance, tour, false);
+            case "or3opt":
+                return new OrOpt(instance, tour, true);
+            default:
+                throw new IllegalArgumentException("Bilinmeyen yerel arama: " + name);
+        }
+    }
+
+    public TspInstance instance() {
+        return instance;
+    }
+
+    public abstract String name();
+
+    // Şehir a'nın kenarları üzerinden iyileştirici bir hamle ara; bulunursa uygula,
+    // değişen uçları kuyruğa ekle ve kazancı döndür. Hamle yoksa 0 döndür.
+    protected abstract double improveCity(int a);
+
+    // Turu yerel optimuma (veya bütçe dolana kadar) iyileştirir, toplam kazancı döndürür.
+    // maxMoves <= 0 ve deadlineNanos 0 (Deadline.NONE) ise sınırsız çalışır.
+    public double optimize(Tour target, long maxMoves, long deadlineNanos) {
+        return optimize(target, null, maxMoves, deadlineNanos);
+    }
+
+    // Kuyruğa başlangıçta yalnızca verilen şehirler eklenir (null: tüm şehirler); iyileştirici
+    // hamlelerin uçları kuyruğa eklendikçe arama bu şehirlerin çevresine yayılır
+    public double optimize(Tour target, int[] initial, long maxMoves, long deadlineNanos) {
+        int[] order = target.order;
+        n = order.length;
+        movesEvaluated = 0;
+        movesApplied = 0;
+        elapsedNanos = 0;
+        if (n < 8 || k == 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+
+        head = 0;
+        count = 0;
+        tour.load(order);
+        for (int i = 0; i < n; i++) {
+            queued[order[i]] = false;
+        }
+        int[] cities = initial != null ? initial : order;
+        for (int city : cities) {
+            push(city);
+        }
+
+        double gain = 0;
+        long applied = 0;
+        int iterations = 0;
+
+        while (count > 0) {
+            if (maxMoves > 0 && applied >= maxMoves) {
+                break;
+            }
+            // Saat sorgusunu seyrek yap
+            if ((++iterations & 255) == 0 && Deadline.passed(deadlineNanos)) {
+                break;
+            }
+
+            int a = pop();
+            double delta = improveCity(a);
+            if (delta > 0) {
+                gain += delta;
+                applied++;
+                push(a);
+            }
+        }
+
+        tour.store(order);
+        movesApplied = applied;
+        elapsedNanos = System.nanoTime() - start;
+        return gain;
+    }
+
+    protected final int next(int city) {
+        return tour.next(city);
+    }
+
+    protected final int prev(int city) {
+        return tour.prev(city);
+    }
+
+    // İleri yönde a'dan c'ye giderken b'ye uğranıyor mu (uçlar dahil)
+    protected final boolean between(int a, int b, int c) {
+        return tour.between(a, b, c);
+    }
+
+    // (a,b) ve (c,d) kenarlarını (a,c) ve (b,d) ile değiştir. İki kenar aynı
+    // yönde olmalıdır: ya b = next(a) ve d = next(c), ya da b = prev(a) ve d = prev(c).
+    protected final void make2OptMove(int a, int b, int c, int d) {
+        if (next(a) == b) {
+            tour.reverse(b, c);
+        } else {
+            tour.reverse(a, d);
+        }
+    }
+
+    protected final void push(int city) {
+        if (!queued[city]) {
+            queued[city] = true;
+            int tail = head + count;
+            if (tail >= queue.length) {
+                tail -= queue.length;
+            }
+            queue[tail] = city;
+            count++;
+        }
+    }
+
+    private int pop() {
+        int city = queue[head];
+        head = head + 1 == queue.length ? 0 : head + 1;
+        count--;
+        queued[city] = false;
+        return city;
+    }
+
+    public long getMovesEvaluated() {
+        return movesEvaluated;
+    }
+
+    public long getMovesApplied() {
+        return movesApplied;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getMovesPerSecond() {
+        return elapsedNanos == 0 ? 0 : movesEvaluated / (elapsedNanos / 1e9);
+    }
+}
@@ -0,0 +1,66 @@
+package tsp;
+
+// Açık adreslemeli, kutulamasız long kümesi (tur özetleri için). 0 boş yuva
+// işaretidir ve eklenemez; Tour.getHash hiçbir zaman 0 döndürmez.
+final class LongHashSet {
+    private long[] slots;
+    private int size;
+
+    LongHashSet(int expected) {
+        slots = new long[Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1];
+    }
+
+    // Değer yeni eklendiyse true, zaten varsa false
+    boolean add(long value) {
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != 0) {
+            if (slots[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = value;
+        if (++size * 2 > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(long value) {
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != 0) {
+            if (slots[i] == value) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Kapasite korunur (nesiller arası yeniden kullanım)
+    void clear() {
+        java.util.Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        size = 0;
+        for (long value : old) {
+            if (value != 0) {
+                add(value);
+            }
+        }
+    }
+
+    private static int mix(long value) {
+        return (int) (value ^ (value >>> 32));
+    }
+}
@@ -0,0 +1,516 @@
+package tsp;
+
+import java.util.*;
+
+// Optimal tur uzunluğu için alt sınır: Held-Karp 1-ağaç gevşetmesi ve alt gradyan yükselişi.
+// Her şehre bir ceza (pi) verilir; kenar (i, j) maliyeti d(i, j) + pi[i] + pi[j] olan tam grafın en
+// küçük 1-ağacı (0 dışındaki şehirlerin kapsayan ağacı + 0'ın en kısa iki kenarı) eksi 2 * toplam(pi)
+// her pi için geçerli bir alt sınırdır. Cezalar derecesi 2'den farklı şehirlerde ayarlanarak sınır
+// yükseltilir. Yükseliş seyrek grafta (aday komşu kenarları + 1 numaralı şehirden yıldız) yürür:
+// 85900 şehirde de yineleme başına O(n k log n). Seyrek grafın ağacı tam graftakinden ağır olabilir,
+// bu yüzden bildirilen sınır en iyi cezalarla ya aday dışı kenarları alt değerlerle temsil eden ucuz
+// bir gevşetmeyle ya da tam grafta (O(n^2), mesafe tablosu olmadan) hesaplanır.
+// Kendi daemon iş parçacığında GA ile aynı anda çalışır; GA en iyi turu bildirdikçe adım boyu daralır.
+public class LowerBound implements Runnable, AutoCloseable {
+    // Adım katsayısı, bu kadar yinelemede seyrek sınır iyileşmezse yarıya iner
+    private static final int PATIENCE = 50;
+    // Adım katsayısı bunun altına inince yükseliş yakınsamış sayılır
+    private static final double MIN_STEP = 1e-6;
+    // Tam graf değerlendirmesi en az bu aralıkla ve yükseliş süresinin en fazla beşte biri kadar yapılır
+    private static final long MIN_VALIDATION_NANOS = 1_000_000_000L;
+    // Yıldızın merkezi (0, 1-ağacın özel şehridir)
+    private static final int HUB = 1;
+
+    private final int n;
+    private final double[] xs;
+    private final double[] ys;
+    // Simetrik aday grafı (CSR): i'nin komşuları adjacency[start[i]..start[i + 1]), mesafeleri weights
+    private final int[] start;
+    private final int[] adjacency;
+    private final double[] weights;
+    // Tam graf değerlendirmesinde en küçük ağaca girip seyrek grafta olmayan kenarlar (şehir başına
+    // bağlı liste); sonraki yinelemelerde seyrek grafa dahildir
+    private final int[] extraHead;
+    private int[] extraNext = new int[16];
+    private int[] extraTo = new int[16];
+    private double[] extraWeight = new double[16];
+    private int extraCount;
+    // Şehrin aday listesindeki en uzak komşusuna mesafesi: her iki ucun listesinde de olmayan
+    // bir kenar en az max(radius[i], radius[j]) uzunluğundadır
+    private final double[] radius;
+    // Özel şehrin (0) ve yıldız merkezinin tüm şehirlere mesafesi
+    private final double[] special;
+    private final double[] hub;
+
+    // Yükseliş durumu (yalnızca sınır iş parçacığı kullanır)
+    private final double[] pi;
+    private final int[] degree;
+    private final int[] parent;
+    private final double[] key;
+    private final boolean[] inTree;
+    private final int[] heap;
+    private final int[] heapIndex;
+    private int heapSize;
+
+    // En iyi geçerli alt sınır (0: henüz yok) ve GA'nın bildirdiği en kısa tur
+    private volatile double bound = 0;
+    private volatile double upperBound;
+    private volatile int iterations;
+    private volatile boolean stopped;
+
+    public LowerBound(TspInstance instance, double upperBound) {
+        this.n = instance.size();
+        this.upperBound = upperBound;
+        this.xs = instance.xs;
+        this.ys = instance.ys;
+        int k = instance.candidateCount;
+        int[] candidates = instance.candidates;
+
+        // Aday listeleri tek yönlüdür; her kenar iki uçta da görünsün diye derece sayılıp yerleştirilir
+        radius = new double[n];
+        start = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < k; c++) {
+                int j = candidates[i * k + c];
+                if (!listed(candidates, k, j, i)) {
+                    start[j + 1]++;
+                }
+                start[i + 1]++;
+            }
+            radius[i] = k == 0 ? 0 : distance(i, candidates[i * k + k - 1]);
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        adjacency = new int[start[n]];
+        weights = new double[start[n]];
+        int[] fill = Arrays.copyOf(start, n);
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < k; c++) {
+                int j = candidates[i * k + c];
+                double d = distance(i, j);
+                adjacency[fill[i]] = j;
+                weights[fill[i]++] = d;
+                if (!listed(candidates, k, j, i)) {
+                    adjacency[fill[j]] = i;
+                    weights[fill[j]++] = d;
+                }
+            }
+        }
+        extraHead = new int[n];
+        Arrays.fill(extraHead, -1);
+        special = new double[n];
+        hub = new double[n];
+        if (n > HUB) {
+            instance.kernels.distancesTo(xs[0], ys[0], xs, ys, n, special);
+            instance.kernels.distancesTo(xs[HUB], ys[HUB], xs, ys, n, hub);
+        }
+
+        pi = new double[n];
+        degree = new int[n];
+        parent = new int[n];
+        key = new double[n];
+        inTree = new boolean[n];
+        heap = new int[n];
+        heapIndex = new int[n];
+    }
+
+    // Yükselişi ayrı bir daemon iş parçacığında başlat
+    public LowerBound start() {
+        Thread thread = new Thread(this, "tsp-lower-bound");
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    // Şimdiye kadarki en iyi alt sınır (0: henüz hesaplanmadı)
+    public double bound() {
+        return bound;
+    }
+
+    public int iterations() {
+        return iterations;
+    }
+
+    // GA daha kısa bir tur bulduğunda çağrılır (adım boyu üst sınıra göre seçilir)
+    public void offer(double tourLength) {
+        if (tourLength < upperBound) {
+            upperBound = tourLength;
+        }
+    }
+
+    // Turun alt sınıra göre optimallik farkı (yüzde); sınır yoksa sonsuz
+    public double gap(double tourLength) {
+        double lower = bound;
+        return lower > 0 ? (tourLength - lower) / lower * 100 : Double.POSITIVE_INFINITY;
+    }
+
+    // Alt gradyan yükselişi: pi += t * (0.7 v + 0.3 v_önceki), v = derece - 2,
+    // t = lambda * (üst sınır - en iyi seyrek değer) / |v|^2 (Polyak adımı). lambda yarıya inerken
+    // cezalar en iyi değeri veren cezalara geri döner; büyük adımlarla ıraksama sürmez.
+    // Yükseliş yakınsadığında tam graf değerlendirmesi seyrek grafa kenar eklediyse yükseliş sürer.
+    @Override
+    public void run() {
+        if (n < 3) {
+            return;
+        }
+        double[] direction = new double[n];
+        double[] bestPi = new double[n];
+        double best = Double.NEGATIVE_INFINITY;
+        boolean pending = false;
+        long validated = System.nanoTime();
+        long validationNanos = -1;
+        long relaxed = validated;
+        double lambda = 2;
+        int sinceImprovement = 0;
+        while (!stopped) {
+            long began = System.nanoTime();
+            double value = oneTree(false, pi);
+            iterations++;
+            if (validationNanos < 0) {
+                // İlk tam graf değerlendirmesinin süresi seyrek yinelemeden kestirilir: n^2 / 2 kenara
+                // karşı yaklaşık |E| log n yığın işlemi. Büyük veri setinde ilk cezalarla boşa gitmez.
+                double edges = start[n] + extraCount + n;
+                validationNanos = (long) ((System.nanoTime() - began) * (n / 2.0) * n
+                        / (edges * Math.max(1, Math.log(n) / Math.log(2))));
+            }
+            boolean converged = false;
+            if (value > best) {
+                best = value;
+                System.arraycopy(pi, 0, bestPi, 0, n);
+                pending = true;
+                sinceImprovement = 0;
+            } else if (++sinceImprovement >= PATIENCE) {
+                lambda /= 2;
+                sinceImprovement = 0;
+                System.arraycopy(bestPi, 0, pi, 0, n);
+                Arrays.fill(direction, 0);
+                converged = lambda <= MIN_STEP;
+                if (!converged) {
+                    continue;
+                }
+            }
+
+            double step = 0;
+            if (!converged) {
+                double norm = 0;
+                for (int i = 0; i < n; i++) {
+                    direction[i] = 0.7 * (degree[i] - 2) + 0.3 * direction[i];
+                    norm += direction[i] * direction[i];
+                }
+                // Tüm dereceler 2 (1-ağaç bir tur) veya değer en iyi tura ulaştı: daha fazla yükselemez
+                step = norm == 0 ? 0 : lambda * Math.max(upperBound - best, 0) / norm;
+                converged = step == 0;
+            }
+
+            long now = System.nanoTime();
+            if (pending && (converged || now - validated > Math.max(MIN_VALIDATION_NANOS, 4 * validationNanos))) {
+                boolean grown = validate(bestPi);
+                validationNanos = System.nanoTime() - now;
+                validated = System.nanoTime();
+                pending = false;
+                if (grown) {
+                    // En iyi cezalar büyüyen seyrek grafta yeniden değerlendirilir
+                    best = Double.NEGATIVE_INFINITY;
+                    System.arraycopy(bestPi, 0, pi, 0, n);
+                    Arrays.fill(direction, 0);
+                    if (converged) {
+                        lambda = 1;
+                    }
+                    continue;
+                }
+            } else if (pending && now - relaxed > MIN_VALIDATION_NANOS) {
+                // Tam graf değerlendirmesi beklenirken en iyi cezalarla ucuz geçerli sınır
+                raise(oneTree(true, bestPi));
+                relaxed = now;
+            }
+            if (converged) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                pi[i] += step * direction[i];
+            }
+        }
+    }
+
+    // Verilen cezalarla tam graftaki 1-ağaç değeri (geçerli alt sınır); seyrek grafa kenar eklendiyse true
+    private boolean validate(double[] penalties) {
+        int before = extraCount;
+        raise(denseOneTree(penalties));
+        return extraCount > before;
+    }
+
+    private void raise(double value) {
+        if (value > bound) {
+            bound = value;
+        }
+    }
+
+    // Seyrek graftaki en küçük 1-ağacın ağırlığı eksi 2 * toplam(pi); derece dizisini doldurur.
+    // Kapsayan ağaç aday kenarları ve bir yıldız üzerinden Prim ile kurulur; yıldız aday grafı
+    // bağlantısız olsa da ağacın kapsamasını sağlar.
+    // relaxed false: yıldız HUB'dan tüm şehirlere giden gerçek kenarlardır (yükseliş adımı).
+    // relaxed true: değer tam graf için de geçerli bir alt sınırdır. Aday olmayan her (i, j) kenarının
+    // cezalı maliyeti en az a[i] + a[j]'dir (a[i] = radius[i] / 2 + pi[i]); a değeri en küçük şehir h
+    // ise a[i] + a[j] >= a[i] + a[h] ve a[j] + a[h] olduğundan bu alt değerli kenarlardan yalnızca h'ye
+    // bağlananlar en küçük ağaca girebilir. Hiçbir kenar gerçeğinden pahalı olmadığı için ağaç tam
+    // graftakinden ağır olamaz; tam graf değerlendirmesinden gevşek ama yineleme kadar ucuzdur.
+    private double oneTree(boolean relaxed, double[] penalties) {
+        int root = HUB;
+        if (relaxed) {
+            for (int v = 1; v < n; v++) {
+                if (radius[v] / 2 + penalties[v] < radius[root] / 2 + penalties[root]) {
+                    root = v;
+                }
+            }
+        }
+        Arrays.fill(inTree, false);
+        Arrays.fill(degree, 0);
+        inTree[root] = true;
+        double total = 0;
+        heapSize = 0;
+        for (int v = 1; v < n; v++) {
+            if (v != root) {
+                key[v] = relaxed ? radius[v] / 2 + penalties[v] + radius[root] / 2 + penalties[root] : hub[v] + penalties[v] + penalties[HUB];
+                parent[v] = root;
+                heapIndex[v] = heapSize;
+                heap[heapSize++] = v;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        relaxNeighbors(root, penalties);
+        while (heapSize > 0) {
+            int u = pop();
+            inTree[u] = true;
+            total += key[u];
+            degree[u]++;
+            degree[parent[u]]++;
+            relaxNeighbors(u, penalties);
+        }
+        return total + specialEdges(penalties, degree) - 2 * sum(penalties);
+    }
+
+    // Tam grafta Prim (O(n^2) mesafe, mesafe tablosu yok): ağaca girmemiş şehirler ve koordinatları
+    // sıkışık dizilerin [0, count) aralığında tutulur; anahtarlar güncellenirken bir sonraki en yakın
+    // şehir de aynı geçişte bulunur. Ağaca giren ve seyrek grafta olmayan kenarlar seyrek grafa
+    // eklenir: yükseliş bu cezalarda ucuzlayan uzak kenarları da görür.
+    private double denseOneTree(double[] penalties) {
+        int size = n - 2;
+        int[] remaining = new int[size];
+        int[] from = new int[size];
+        double[] best = new double[size];
+        double[] rx = new double[size];
+        double[] ry = new double[size];
+        double[] rp = new double[size];
+        int count = 0;
+        int min = 0;
+        for (int v = 1; v < n; v++) {
+            if (v != HUB) {
+                remaining[count] = v;
+                from[count] = HUB;
+                best[count] = hub[v] + penalties[v] + penalties[HUB];
+                rx[count] = xs[v];
+                ry[count] = ys[v];
+                rp[count] = penalties[v];
+                if (best[count] < best[min]) {
+                    min = count;
+                }
+                count++;
+            }
+        }
+        int[] added = new int[2 * size];
+        int addedCount = 0;
+        double total = 0;
+        while (count > 0) {
+            if (stopped && (count & 1023) == 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            int u = remaining[min];
+            total += best[min];
+            if (from[min] != HUB && !sparse(u, from[min])) {
+                added[addedCount++] = u;
+                added[addedCount++] = from[min];
+            }
+            count--;
+            remaining[min] = remaining[count];
+            from[min] = from[count];
+            best[min] = best[count];
+            rx[min] = rx[count];
+            ry[min] = ry[count];
+            rp[min] = rp[count];
+
+            double ux = xs[u], uy = ys[u], pu = penalties[u];
+            for (int i = 0; i < count; i++) {
+                double dx = rx[i] - ux;
+                double dy = ry[i] - uy;
+                double c = Math.sqrt(dx * dx + dy * dy) + pu + rp[i];
+                if (c < best[i]) {
+                    best[i] = c;
+                    from[i] = u;
+                }
+            }
+            min = 0;
+            for (int i = 1; i < count; i++) {
+                if (best[i] < best[min]) {
+                    min = i;
+                }
+            }
+        }
+        for (int i = 0; i < addedCount; i += 2) {
+            addExtra(added[i], added[i + 1]);
+            addExtra(added[i + 1], added[i]);
+        }
+        return total + specialEdges(penalties, null) - 2 * sum(penalties);
+    }
+
+    // Özel şehir 0: tam graftaki en kısa iki cezalı kenarı (degree null değilse dereceler de güncellenir)
+    private double specialEdges(double[] penalties, int[] degree) {
+        int first = -1, second = -1;
+        for (int j = 1; j < n; j++) {
+            double c = special[j] + penalties[j];
+            if (first < 0 || c < special[first] + penalties[first]) {
+                second = first;
+                first = j;
+            } else if (second < 0 || c < special[second] + penalties[second]) {
+                second = j;
+            }
+        }
+        if (degree != null) {
+            degree[0] = 2;
+            degree[first]++;
+            degree[second]++;
+        }
+        return special[first] + penalties[first] + special[second] + penalties[second] + 2 * penalties[0];
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private void relaxNeighbors(int u, double[] penalties) {
+        for (int e = start[u]; e < start[u + 1]; e++) {
+            relax(u, adjacency[e], weights[e], penalties);
+        }
+        for (int e = extraHead[u]; e >= 0; e = extraNext[e]) {
+            relax(u, extraTo[e], extraWeight[e], penalties);
+        }
+    }
+
+    private void relax(int u, int v, double weight, double[] penalties) {
+        if (v == 0 || inTree[v]) {
+            return;
+        }
+        double c = weight + penalties[u] + penalties[v];
+        if (c < key[v]) {
+            key[v] = c;
+            parent[v] = u;
+            siftUp(heapIndex[v]);
+        }
+    }
+
+    // (u, v) kenarı seyrek grafta var mı (yıldız kenarları hariç)
+    private boolean sparse(int u, int v) {
+        for (int e = start[u]; e < start[u + 1]; e++) {
+            if (adjacency[e] == v) {
+                return true;
+            }
+        }
+        for (int e = extraHead[u]; e >= 0; e = extraNext[e]) {
+            if (extraTo[e] == v) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addExtra(int u, int v) {
+        if (extraCount == extraTo.length) {
+            extraNext = Arrays.copyOf(extraNext, extraCount * 2);
+            extraTo = Arrays.copyOf(extraTo, extraCount * 2);
+            extraWeight = Arrays.copyOf(extraWeight, extraCount * 2);
+        }
+        extraNext[extraCount] = extraHead[u];
+        extraTo[extraCount] = v;
+        extraWeight[extraCount] = distance(u, v);
+        extraHead[u] = extraCount++;
+    }
+
+    // İndeksli ikili yığın (anahtar azaltmalı); yalnızca ağaca girmemiş şehirleri tutar
+    private int pop() {
+        int top = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (key[heap[p]] <= key[v]) {
+                break;
+            }
+            heap[i] = heap[p];
+            heapIndex[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = v;
+        heapIndex[v] = i;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= heapSize) {
+                break;
+            }
+            if (c + 1 < heapSize && key[heap[c + 1]] < key[heap[c]]) {
+                c++;
+            }
+            if (key[v] <= key[heap[c]]) {
+                break;
+            }
+            heap[i] = heap[c];
+            heapIndex[heap[i]] = i;
+            i = c;
+        }
+        heap[i] = v;
+        heapIndex[v] = i;
+    }
+
+    // j'nin aday listesinde i var mı
+    private static boolean listed(int[] candidates, int k, int j, int i) {
+        for (int c = 0; c < k; c++) {
+            if (candidates[j * k + c] == i) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double distance(int i, int j) {
+        double dx = xs[i] - xs[j];
+        double dy = ys[i] - ys[j];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,201 @@
+package tsp;
+
+import java.io.*;
+import java.util.*;
+
+public class Main {
+    // Süre sınırlı çalışmada sonuçların yazılması için ayrılan en fazla süre
+    private static final long RESERVED_NANOS = 200_000_000L;
+
+    public static void main(String[] args) throws IOException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println("Lütfen çözülecek dosya adını parametre olarak giriniz. Örn: tsp_318_2");
+            System.out.println("Toplu çözüm: --batch <klasör|liste dosyası> (ör. --batch data)");
+            System.out.println("Sunucu: --serve <port> [--max-concurrent <n>] [--max-queue <n>] (POST /solve?time=<saniye>)");
+            System.out.println("Seçenekler: --local-search <2opt|oropt|or3opt, '+' ile zincirlenebilir>");
+            System.out.println("            --ls-moves <hamle> --ls-time <ms> (çocuk başına yerel arama bütçesi)");
+            System.out.println("            --two-level-min <şehir> (bu boyuttan itibaren iki seviyeli tur listesi, 0: kapalı)");
+            System.out.println("            --crossover <ox|gpx>");
+            System.out.println("            --double-buffer (önceden ayrılmış çift tamponlu popülasyonlar; nesil döngüsünde çöp yok)");
+            System.out.println("            --steady-state (nesil bariyeri yok; çocuklar ortak popülasyona kilitsiz yerleştirilir)");
+            System.out.println("            --lower-bound (Held-Karp alt sınırı ve optimallik farkı) --target-gap <yüzde> (fark bu değere inince dur)");
+            System.out.println("            --autotune (ada sayısı, popülasyon, mutasyon ve yerel arama bütçesi çalışırken ölçülerek ayarlanır)");
+            System.out.println("            --decompose <küme boyutu> (50k+ şehir: uzamsal kümeleri paralel çöz ve birleştir, ör. 1000)");
+            System.out.println("            --binary-cache (ikili yan dosyayı yaz/oku: data/<dosya>.bin)");
+            System.out.println("            --seed <sayı> (aynı tohum ve ada sayısı aynı sonucu verir)");
+            System.out.println("            --islands <n> --migration-interval <nesil> --migrants <n> --migration <ring|random>");
+            System.out.println("            --checkpoint <dosya> --checkpoint-interval <nesil> --resume <dosya>");
+            System.out.println("            --warm-start (popülasyonu kayıtlı en iyi turla başlat)");
+            System.out.println("            --print-path (en iyi turu ekrana yazdır; sonuçlar results/ klasörüne kaydedilir)");
+            System.out.println("            --time-limit <saniye> (toplam süre sınırı; süre dolunca en iyi tur döner)");
+            System.out.println("            --metrics <dosya.csv|dosya.jsonl> (nesil başına ölçümler; JFR olayı: tsp.Generation)");
+            return;
+        }
+
+        if (options.servePort > 0) {
+            try {
+                SolverServer.run(options);
+            } finally {
+                GeneticAlgorithm.shutdown();
+            }
+            return;
+        }
+
+        if (options.batch != null) {
+            try {
+                BatchSolver.run(options);
+            } finally {
+                GeneticAlgorithm.shutdown();
+            }
+            return;
+        }
+
+        String file = options.file;
+        String path = "data/" + file;
+
+        // Bellek bilgilerini al ve görüntüle
+        Runtime runtime = Runtime.getRuntime();
+        long maxMemory = runtime.maxMemory() / (1024 * 1024);
+        System.out.println("--------------------------------------------------");
+        System.out.println("Dosya işleniyor: " + file);
+        System.out.println("Maksimum JVM belleği: " + maxMemory + " MB");
+
+        long startTime = System.currentTimeMillis();
+        startClock(options);
+
+        try {
+            // Dosya büyüklüğüne göre parametreleri ayarla
+            long loadStart = System.nanoTime();
+            TspInstance instance = loadCities(path, options.binaryCache);
+            System.out.printf("\nYükleme süresi: %.1f ms", (System.nanoTime() - loadStart) / 1e6);
+            int cityCount = instance.size();
+
+            System.out.println("\nŞehir sayısı: " + cityCount);
+            System.out.printf("Mesafe stratejisi: %s (%.1f MB)\n", instance.distances.name(),
+                    instance.distances.memoryBytes() / (1024.0 * 1024.0));
+            System.out.println("Mesafe çekirdekleri: " + instance.kernels.name());
+
+            // Veri setinin büyüklüğüne göre parametreleri akıllıca ayarla
+            // (ayrıştırma modunda küme boyutuna göre; her küme kendi popülasyonuyla çözülür)
+            int parameterCities = options.decompose > 0 ? Math.min(cityCount, options.decompose) : cityCount;
+            int populationSize = calculatePopulationSize(parameterCities, maxMemory);
+            int generations = calculateGenerations(parameterCities, options);
+            double mutationRate = calculateMutationRate(parameterCities);
+
+            // Süre sınırında nesil sayısı sınırsızdır; sayı yerine süre yazılır
+            String generationLimit = options.timeLimitSeconds > 0
+                    ? String.format("süre sınırına kadar (%.1f sn)", options.timeLimitSeconds)
+                    : Integer.toString(generations);
+            System.out.printf("\nPopülasyon boyutu: %d, Nesil sayısı: %s, Mutasyon oranı: %.4f%s\n",
+                    populationSize, generationLimit, mutationRate, options.decompose > 0 ? " (küme başına)" : "");
+            if (options.autotune) {
+                System.out.println("Otomatik ayar açık: bu değerler yalnızca başlangıç içindir");
+            }
+
+            // 10,000+ şehir için ekstra önlemler al
+            if (cityCount > 10000) {
+                System.out.println("Büyük veri seti tespit edildi. Bellek optimizasyonları uygulanıyor...");
+                // Belleği temizle ve GC'yi çağır
+                System.gc();
+            }
+
+            // TSP hesaplama: tüm rastgele akışlar tek bir tohumdan türetilir
+            System.out.println("Tohum (seed): " + options.seed);
+            SplittableRandom random = new SplittableRandom(options.seed);
+            Tour best;
+            if (options.decompose > 0) {
+                best = Decomposition.solve(instance, options, random.split());
+            } else {
+                Population population = new Population(instance, populationSize, random.split());
+                best = GeneticAlgorithm.evolve(population, generations, mutationRate, options, random.split());
+            }
+
+            long endTime = System.currentTimeMillis();
+            double seconds = (endTime - startTime) / 1000.0;
+
+            System.out.println("\nOptimal maliyet: " + best.exactDistance());
+            // Büyük veri setlerinde yol metni megabaytlarca tutar; yalnızca istenirse yazdır
+            if (options.printPath) {
+                System.out.println("Path: " + best.getPath());
+            }
+            System.out.printf("Toplam çözüm süresi: %.2f saniye\n", seconds);
+
+            boolean improved = ResultsStore.save(options, best, seconds, populationSize, generations, mutationRate);
+            System.out.println(improved
+                    ? "Yeni en iyi tur kaydedildi: " + ResultsStore.DIRECTORY + "/" + file + ResultsStore.TOUR_SUFFIX
+                    : "Kayıtlı en iyi tur daha kısa, yalnızca çalıştırma bilgisi kaydedildi");
+            System.out.println("--------------------------------------------------");
+        } finally {
+            // Temizlik işlemleri
+            GeneticAlgorithm.shutdown();
+        }
+    }
+
+    // Süre sınırı varsa çözümün bitmesi gereken anı ayarla
+    static void startClock(Options options) {
+        if (options.timeLimitSeconds > 0) {
+            // Sonuçları yazmak için sürenin küçük bir kısmı ayrılır
+            long limit = (long) (options.timeLimitSeconds * 1e9);
+            options.deadlineNanos = Deadline.at(System.nanoTime() + limit - Math.min(limit / 20, RESERVED_NANOS));
+        }
+    }
+
+    static int calculateGenerations(int cityCount, Options options) {
+        // Süre sınırı varsa nesil sayısı sınırlamaz: süre dolana kadar evrilir
+        return options.timeLimitSeconds > 0 ? Integer.MAX_VALUE : calculateGenerations(cityCount);
+    }
+
+    static int calculatePopulationSize(int cityCount, long maxMemoryMB) {
+        // Bellek miktarına ve şehir sayısına göre popülasyon boyutunu belirle
+        if (maxMemoryMB < 1024) { // 1GB'dan az bellek
+            return Math.min(50, cityCount);
+        } else if (maxMemoryMB < 4096) { // 1-4GB arası
+            return Math.min(100, cityCount / 2);
+        } else if (maxMemoryMB < 8192) { // 4-8GB arası
+            return Math.min(200, cityCount / 3);
+        } else { // 8GB+ bellek
+            return Math.min(500, cityCount / 4);
+        }
+    }
+
+    private static int calculateGenerations(int cityCount) {
+        // Şehir sayısına göre nesil sayısını belirle
+        if (cityCount <= 100)
+            return 1000;
+        if (cityCount <= 300)
+            return 2000;
+        if (cityCount <= 1000)
+            return 1500;
+        if (cityCount <= 5000)
+            return 800;
+        if (cityCount <= 10000)
+            return 400;
+        return 200; // Çok büyük veri seti için daha az nesil
+    }
+
+    static double calculateMutationRate(int cityCount) {
+        // Şehir sayısına göre mutasyon oranını belirle
+        if (cityCount <= 100)
+            return 0.05;
+        if (cityCount <= 300)
+            return 0.04;
+        if (cityCount <= 1000)
+            return 0.03;
+        if (cityCount <= 5000)
+            return 0.02;
+        return 0.01; // Büyük veri setleri için daha düşük mutasyon
+    }
+
+    public static TspInstance loadCities(String fileName) throws IOException {
+        return loadCities(fileName, false);
+    }
+
+    // Dosya belleğe eşlenerek ayrıştırılır; binaryCache açıksa ikili yan dosya kullanılır
+    public static TspInstance loadCities(String fileName, boolean binaryCache) throws IOException {
+        return InstanceLoader.load(fileName, binaryCache);
+    }
+}
@@ -0,0 +1,52 @@
+package tsp;
+
+// Küçük veri setleri için: tüm mesafeler alt üçgen float matriste önceden hesaplanır
+public class MatrixDistanceOracle implements DistanceOracle {
+    private final float[] matrix;
+
+    public MatrixDistanceOracle(double[] xs, double[] ys) {
+        this(xs, ys, DistanceKernels.INSTANCE);
+    }
+
+    public MatrixDistanceOracle(double[] xs, double[] ys, DistanceKernels kernels) {
+        int n = xs.length;
+        // (i, j) çifti, i > j için i * (i - 1) / 2 + j konumunda tutulur
+        matrix = new float[(int) ((long) n * (n - 1) / 2)];
+        // Satır i: i'nin kendisinden önceki tüm şehirlere mesafesi (toplu hesap)
+        double[] row = new double[n];
+        int k = 0;
+        for (int i = 1; i < n; i++) {
+            kernels.distancesTo(xs[i], ys[i], xs, ys, i, row);
+            for (int j = 0; j < i; j++) {
+                matrix[k++] = (float) row[j];
+            }
+        }
+    }
+
+    @Override
+    public double distance(int i, int j) {
+        if (i > j) {
+            return matrix[i * (i - 1) / 2 + j];
+        }
+        if (i < j) {
+            return matrix[j * (j - 1) / 2 + i];
+        }
+        return 0;
+    }
+
+    // Mesafeler float'a yuvarlanmış olarak tutulur
+    @Override
+    public boolean exact() {
+        return false;
+    }
+
+    @Override
+    public String name() {
+        return "üçgen mesafe matrisi";
+    }
+
+    @Override
+    public long memoryBytes() {
+        return (long) matrix.length * Float.BYTES;
+    }
+}
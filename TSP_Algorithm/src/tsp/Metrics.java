@@ -0,0 +1,179 @@
+package tsp;
+
+import java.io.*;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.FlightRecorder;
+
+// Nesil ölçümleri: her nesil sonunda bir satır (CSV veya JSON satırı) ve
+// bir JFR olayı (tsp.Generation); ada modelinde satır tüm adaların aynı nesli içindir. Ne dosya verilmiş ne de JFR kaydı açıksa
+// sıcak yoldaki sayaçlar ve zaman ölçümleri atlanır.
+// Her çalıştırmanın kendi örneği vardır (toplu ve sunucu modunda çözümler aynı anda
+// sürer); örnek ada görevlerine, işçilere ve yerel aramaya parametreyle iletilir.
+public class Metrics implements Closeable {
+    // Sıcak yol bayrağı: koordinatör iş parçacığı dönem aralarında yazar
+    volatile boolean enabled;
+
+    // Ada iş parçacıklarının biriktirdiği sayaçlar (her satırda sıfırlanır)
+    final LongAdder selectionNanos = new LongAdder();
+    final LongAdder crossoverNanos = new LongAdder();
+    final LongAdder mutationNanos = new LongAdder();
+    final LongAdder localSearchNanos = new LongAdder();
+    final LongAdder children = new LongAdder();
+    // Atılan kopya çocuklar: ölçüm kapalıyken de sayılır; çalıştırma toplamı duplicatesRejected()
+    final LongAdder duplicates = new LongAdder();
+    // Tam uzunluk değerlendirmesi gerektiren (uzunluğu artımlı bilinmeyen) kabul edilmiş çocuklar
+    final LongAdder evaluations = new LongAdder();
+
+    // Çalıştırma toplamları (ölçüm kapalıyken de sayılır, sıfırlanmaz): yerel arama
+    final LongAdder movesEvaluated = new LongAdder();
+    final LongAdder movesApplied = new LongAdder();
+    final LongAdder searchNanos = new LongAdder();
+
+    private static final String[] COLUMNS = {"generation", "elapsedMs", "best", "mean", "worst", "diversity", "distinct",
+            "childrenPerSecond", "duplicates", "evaluations", "movesEvaluated", "movesApplied",
+            "selectionMs", "crossoverMs", "mutationMs", "localSearchMs"};
+
+    private final PrintWriter out;
+    private final boolean json;
+    private final long start = System.nanoTime();
+    private long last = start;
+    private long lastMovesEvaluated;
+    private long lastMovesApplied;
+    // Önceki satırlarda sıfırlanmış kopya çocuk sayıları
+    private long duplicatesBefore;
+
+    // file null ise yalnızca JFR olayları; .json/.jsonl uzantısı JSON satırları, diğerleri CSV
+    public Metrics(String file) throws IOException {
+        if (file == null) {
+            out = null;
+            json = false;
+        } else {
+            out = new PrintWriter(new BufferedWriter(new FileWriter(file)));
+            json = file.endsWith(".json") || file.endsWith(".jsonl");
+            if (!json) {
+                out.println(String.join(",", COLUMNS));
+            }
+        }
+        update();
+    }
+
+    // Bir sonraki dönem için sıcak yol bayrağını güncelle (JFR kaydı çalışma sırasında açılabilir).
+    // Kayıt hiç başlatılmadıysa olay sınıfı yüklenmez; JFR altyapısını yüklemek yüzlerce ms sürer.
+    public void update() {
+        enabled = out != null || FlightRecorder.isInitialized() && new GenerationEvent().isEnabled();
+    }
+
+    // Nesil sonu: sayaçları oku ve sıfırla, istatistikleri yaz
+    public void record(int generation, List<Tour> tours, Tour best) {
+        long movesEvaluated = this.movesEvaluated.sum();
+        long movesApplied = this.movesApplied.sum();
+        long duplicateCount = duplicates.sumThenReset();
+        duplicatesBefore += duplicateCount;
+        if (!enabled) {
+            // Ölçüm sonradan açılırsa ilk satır yalnızca kendi hamlelerini saysın
+            last = System.nanoTime();
+            lastMovesEvaluated = movesEvaluated;
+            lastMovesApplied = movesApplied;
+            update();
+            return;
+        }
+        long now = System.nanoTime();
+        GenerationEvent event = new GenerationEvent();
+        event.generation = generation;
+
+        double sum = 0;
+        double worst = 0;
+        for (Tour tour : tours) {
+            double d = tour.getDistance();
+            sum += d;
+            worst = Math.max(worst, d);
+        }
+        event.best = best.getDistance();
+        event.mean = sum / tours.size();
+        event.worst = worst;
+        event.diversity = diversity(tours, best);
+        event.distinct = GeneticAlgorithm.distinctTours(tours) / (double) tours.size();
+
+        long childCount = children.sumThenReset();
+        event.childrenPerSecond = childCount / ((now - last) / 1e9);
+        event.duplicates = duplicateCount;
+        event.evaluations = evaluations.sumThenReset();
+        event.movesEvaluated = movesEvaluated - lastMovesEvaluated;
+        event.movesApplied = movesApplied - lastMovesApplied;
+        event.selectionNanos = selectionNanos.sumThenReset();
+        event.crossoverNanos = crossoverNanos.sumThenReset();
+        event.mutationNanos = mutationNanos.sumThenReset();
+        event.localSearchNanos = localSearchNanos.sumThenReset();
+        event.commit();
+
+        if (out != null) {
+            Object[] values = {generation, (now - start) / 1_000_000, event.best, event.mean, event.worst,
+                    event.diversity, event.distinct, event.childrenPerSecond, event.duplicates, event.evaluations, event.movesEvaluated,
+                    event.movesApplied, event.selectionNanos / 1e6, event.crossoverNanos / 1e6,
+                    event.mutationNanos / 1e6, event.localSearchNanos / 1e6};
+            write(values);
+        }
+
+        last = now;
+        lastMovesEvaluated = movesEvaluated;
+        lastMovesApplied = movesApplied;
+        update();
+    }
+
+    // Çalıştırma boyunca atılan kopya çocuklar
+    public long duplicatesRejected() {
+        return duplicatesBefore + duplicates.sum();
+    }
+
+    private void write(Object[] values) {
+        StringBuilder line = new StringBuilder(json ? "{" : "");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            if (json) {
+                line.append('"').append(COLUMNS[i]).append("\":");
+            }
+            Object value = values[i];
+            line.append(value instanceof Double ? String.format(Locale.ROOT, "%.6f", (Double) value) : value);
+        }
+        if (json) {
+            line.append('}');
+        }
+        out.println(line);
+    }
+
+    // Popülasyon çeşitliliği: bireylerin en iyi turda bulunmayan kenarlarının ortalama oranı
+    static double diversity(List<Tour> tours, Tour best) {
+        int n = best.order.length;
+        if (n < 3 || tours.isEmpty()) {
+            return 0;
+        }
+        int[] pos = new int[n];
+        for (int i = 0; i < n; i++) {
+            pos[best.order[i]] = i;
+        }
+        long different = 0;
+        for (Tour tour : tours) {
+            int[] order = tour.order;
+            for (int i = 0; i < n; i++) {
+                int d = pos[order[i]] - pos[order[i + 1 == n ? 0 : i + 1]];
+                if (d != 1 && d != -1 && d != n - 1 && d != 1 - n) {
+                    different++;
+                }
+            }
+        }
+        return different / ((double) n * tours.size());
+    }
+
+    @Override
+    public void close() {
+        enabled = false;
+        if (out != null) {
+            out.close();
+        }
+    }
+}
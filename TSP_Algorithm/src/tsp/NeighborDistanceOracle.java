@@ -0,0 +1,53 @@
+package tsp;
+
+// Orta boy veri setleri için: her şehrin aday komşularına olan mesafesi tabloda
+// tutulur, tabloda olmayan çiftler koordinatlardan hesaplanır
+public class NeighborDistanceOracle implements DistanceOracle {
+    private final double[] xs;
+    private final double[] ys;
+    private final int k;
+    private final int[] neighbors;     // n * k, şehir i'nin komşuları [i*k, i*k+k)
+    private final double[] distances;  // neighbors ile aynı düzende
+
+    public NeighborDistanceOracle(double[] xs, double[] ys, int[] neighbors, int k) {
+        this.xs = xs;
+        this.ys = ys;
+        this.k = k;
+        this.neighbors = neighbors;
+        this.distances = new double[neighbors.length];
+
+        int n = xs.length;
+        for (int i = 0; i < n; i++) {
+            for (int m = 0; m < k; m++) {
+                int j = neighbors[i * k + m];
+                double dx = xs[i] - xs[j];
+                double dy = ys[i] - ys[j];
+                distances[i * k + m] = Math.sqrt(dx * dx + dy * dy);
+            }
+        }
+    }
+
+    @Override
+    public double distance(int i, int j) {
+        int base = i * k;
+        for (int m = 0; m < k; m++) {
+            if (neighbors[base + m] == j) {
+                return distances[base + m];
+            }
+        }
+        double dx = xs[i] - xs[j];
+        double dy = ys[i] - ys[j];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    @Override
+    public String name() {
+        return "aday komşu mesafe tablosu (K=" + k + ")";
+    }
+
+    @Override
+    public long memoryBytes() {
+        // Komşu listeleri TspInstance ile paylaşılır, yalnızca mesafe tablosu sayılır
+        return (long) distances.length * Double.BYTES;
+    }
+}
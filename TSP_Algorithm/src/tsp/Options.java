@@ -0,0 +1,279 @@
+package tsp;
+
+import java.util.function.ObjIntConsumer;
+
+// Komut satırı seçenekleri: ilk konumsal argüman dosya adıdır, diğerleri --anahtar değer biçimindedir
+public class Options implements Cloneable {
+    public String file;
+
+    // Toplu mod: veri seti klasörü veya her satırında bir veri seti olan liste dosyası
+    public String batch;
+    // Sunucu modu: yerel HTTP portu (0: kapalı), aynı anda çözülen ve kuyrukta bekleyebilen istek sayıları
+    public int servePort = 0;
+    public int maxConcurrent = Runtime.getRuntime().availableProcessors();
+    public int maxQueue = 32;
+    // En iyi tur iyileştikçe koordinatör iş parçacığında çağrılır (sunucu modu); null ise kullanılmaz
+    public ObjIntConsumer<Tour> onImprovement;
+    // İlerleme çıktısını kapat (toplu modda veri setleri aynı anda çözülür)
+    public boolean quiet = false;
+
+    // Yerel arama motor zinciri: "2opt", "oropt", "or3opt" adlarının '+' ile birleşimi
+    public String localSearch = "2opt";
+    // Çocuk başına yerel arama bütçesi (0: yerel optimuma kadar)
+    public long localSearchMoves = 0;
+    public long localSearchMillis = 0;
+    // Bu şehir sayısı ve üzerinde yerel arama iki seviyeli tur listesi kullanır (0: kapalı)
+    public int twoLevelMinCities = 30000;
+
+    // Ada modeli: ada sayısı (0: çekirdek sayısı), göç aralığı (nesil), göçmen sayısı ve topoloji
+    public int islands = 0;
+    public int migrationInterval = 10;
+    public int migrants = 2;
+    public String migration = "ring";
+
+    // Ayrıştırma modu: şehirler en fazla bu boyutta uzamsal kümelere bölünüp paralel çözülür (0: kapalı)
+    public int decompose = 0;
+
+    // Çaprazlama operatörü: "ox" (sıra çaprazlaması) veya "gpx" (kenar koruyan bölümleme çaprazlaması)
+    public String crossover = "ox";
+
+    // Çift tamponlu, önceden ayrılmış popülasyonlar: nesil döngüsü çöp üretmez
+    public boolean doubleBuffer = false;
+
+    // Kararlı durum modu: nesil bariyeri olmadan işçiler ortak popülasyona çocuk yerleştirir
+    // (--islands işçi sayısıdır; iş parçacığı sırası nedeniyle tohum sonucu sabitlemez)
+    public boolean steadyState = false;
+
+    // Held-Karp alt sınırını GA ile aynı anda hesapla ve optimallik farkını raporla; fark
+    // targetGap yüzdesine inince dur (0: yalnızca tur alt sınıra eşitse, yani optimal olduğu kanıtlanınca)
+    public boolean lowerBound = false;
+    public double targetGap = 0;
+
+    // Çevrimiçi ayar: ada sayısı ve popülasyon boyutu ölçülen verime, mutasyon oranı ve yerel arama
+    // bütçesi dönem başına iyileşme hızına göre çalışma sırasında seçilir (bkz. AutoTuner)
+    public boolean autotune = false;
+
+    // Veri dosyasının yanında ikili önbellek dosyası (<dosya>.bin) kullan
+    public boolean binaryCache = false;
+
+    // Nesil ölçümlerinin yazılacağı dosya (.csv veya .jsonl); null ise yalnızca JFR olayları
+    public String metricsFile;
+
+    // Kontrol noktası dosyası ve yazma aralığı (nesil); resume verilen dosyadan devam eder
+    public String checkpoint;
+    public int checkpointInterval = 50;
+    public String resume;
+    // En iyi turun şehir sırasını ekrana yazdır
+    public boolean printPath = false;
+    // Popülasyonu sonuç deposundaki en iyi turla başlat
+    public boolean warmStart = false;
+
+    // Toplam süre sınırı (saniye, 0: sınırsız). Verilirse nesil sayısı sınırı kalkar ve
+    // yükleme, başlangıç turları, nesiller ve yerel arama bu sınıra göre durur.
+    public double timeLimitSeconds = 0;
+    // Süre sınırının System.nanoTime() karşılığı (Deadline.NONE: yok); Main tarafından ayarlanır.
+    // Sunucu modunda istemci bağlantıyı kapatırsa başka bir iş parçacığı tarafından öne çekilir.
+    public volatile long deadlineNanos = 0;
+
+    // Rastgele akışların kök tohumu (verilmezse rastgele seçilir ve ekrana yazılır)
+    public long seed = System.nanoTime() ^ Double.doubleToLongBits(Math.random());
+
+    public static Options parse(String[] args) {
+        Options options = new Options();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                if (options.file != null) {
+                    throw new IllegalArgumentException("Birden fazla dosya adı verildi: " + arg);
+                }
+                options.file = arg;
+                continue;
+            }
+            // Değer almayan bayraklar
+            if (arg.equals("--binary-cache")) {
+                options.binaryCache = true;
+                continue;
+            }
+            if (arg.equals("--print-path")) {
+                options.printPath = true;
+                continue;
+            }
+            if (arg.equals("--warm-start")) {
+                options.warmStart = true;
+                continue;
+            }
+            if (arg.equals("--double-buffer")) {
+                options.doubleBuffer = true;
+                continue;
+            }
+            if (arg.equals("--lower-bound")) {
+                options.lowerBound = true;
+                continue;
+            }
+            if (arg.equals("--steady-state")) {
+                options.steadyState = true;
+                continue;
+            }
+            if (arg.equals("--autotune")) {
+                options.autotune = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(arg + " için değer eksik");
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--local-search":
+                    for (String name : value.split("\\+")) {
+                        if (!name.equals("2opt") && !name.equals("oropt") && !name.equals("or3opt")) {
+                            throw new IllegalArgumentException("Bilinmeyen yerel arama: " + name);
+                        }
+                    }
+                    options.localSearch = value;
+                    break;
+                case "--ls-moves":
+                    options.localSearchMoves = parseLong(arg, value);
+                    break;
+                case "--ls-time":
+                    options.localSearchMillis = parseLong(arg, value);
+                    break;
+                case "--two-level-min":
+                    options.twoLevelMinCities = (int) parseLong(arg, value);
+                    break;
+                case "--decompose":
+                    options.decompose = (int) parseLong(arg, value);
+                    if (options.decompose != 0 && options.decompose < 100) {
+                        throw new IllegalArgumentException("--decompose küme boyutu en az 100 olmalı");
+                    }
+                    break;
+                case "--crossover":
+                    if (!value.equals("ox") && !value.equals("gpx")) {
+                        throw new IllegalArgumentException("Bilinmeyen çaprazlama: " + value);
+                    }
+                    options.crossover = value;
+                    break;
+                case "--target-gap":
+                    options.targetGap = parseDouble(arg, value);
+                    if (options.targetGap < 0) {
+                        throw new IllegalArgumentException("--target-gap negatif olamaz");
+                    }
+                    options.lowerBound = true;
+                    break;
+                case "--metrics":
+                    options.metricsFile = value;
+                    break;
+                case "--checkpoint":
+                    options.checkpoint = value;
+                    break;
+                case "--checkpoint-interval":
+                    options.checkpointInterval = (int) parseLong(arg, value);
+                    break;
+                case "--resume":
+                    options.resume = value;
+                    break;
+                case "--serve":
+                    options.servePort = (int) parseLong(arg, value);
+                    break;
+                case "--max-concurrent":
+                    options.maxConcurrent = (int) parseLong(arg, value);
+                    break;
+                case "--max-queue":
+                    options.maxQueue = (int) parseLong(arg, value);
+                    break;
+                case "--batch":
+                    options.batch = value;
+                    break;
+                case "--time-limit":
+                    options.timeLimitSeconds = parseDouble(arg, value);
+                    break;
+                case "--seed":
+                    options.seed = parseLong(arg, value);
+                    break;
+                case "--islands":
+                    options.islands = (int) parseLong(arg, value);
+                    break;
+                case "--migration-interval":
+                    options.migrationInterval = (int) parseLong(arg, value);
+                    break;
+                case "--migrants":
+                    options.migrants = (int) parseLong(arg, value);
+                    break;
+                case "--migration":
+                    if (!value.equals("ring") && !value.equals("random")) {
+                        throw new IllegalArgumentException("Bilinmeyen göç topolojisi: " + value);
+                    }
+                    options.migration = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Bilinmeyen seçenek: " + arg);
+            }
+        }
+        if (options.servePort > 0) {
+            if (options.file != null || options.batch != null) {
+                throw new IllegalArgumentException("--serve ile dosya adı veya --batch verilemez");
+            }
+            if (options.maxConcurrent < 1 || options.maxQueue < 0) {
+                throw new IllegalArgumentException("--max-concurrent en az 1, --max-queue en az 0 olmalı");
+            }
+            // İstekler aynı anda çözülür ve dosya adı taşımaz: ortak dosyalar çakışır, sıcak başlangıç kaydı yoktur
+            if (options.metricsFile != null || options.checkpoint != null || options.resume != null
+                    || options.warmStart) {
+                throw new IllegalArgumentException("--metrics, --checkpoint, --resume ve --warm-start sunucu modunda desteklenmez");
+            }
+        } else if (options.batch != null) {
+            if (options.file != null) {
+                throw new IllegalArgumentException("--batch ile ayrıca dosya adı verilemez: " + options.file);
+            }
+            // Dosya başına yazılan çıktılar veri setleri arasında çakışır
+            if (options.metricsFile != null || options.checkpoint != null || options.resume != null) {
+                throw new IllegalArgumentException("--metrics, --checkpoint ve --resume toplu modda desteklenmez");
+            }
+        } else if (options.file == null) {
+            throw new IllegalArgumentException("Dosya adı verilmedi");
+        }
+        // Kümeler ayrı popülasyonlarla çözülür; tüm tura ait popülasyon ve nesil sayacı yoktur
+        if (options.decompose > 0 && (options.metricsFile != null || options.checkpoint != null || options.resume != null
+                || options.warmStart || options.lowerBound)) {
+            throw new IllegalArgumentException(
+                    "--metrics, --checkpoint, --resume, --warm-start ve --lower-bound ayrıştırma modunda desteklenmez");
+        }
+        // Kararlı durumda nesil sınırı ve yer değiştiren tamponlar yoktur
+        if (options.steadyState && (options.checkpoint != null || options.resume != null || options.doubleBuffer)) {
+            throw new IllegalArgumentException("--checkpoint, --resume ve --double-buffer kararlı durum modunda desteklenmez");
+        }
+        // Otomatik ayar ada modelini yönetir; kümelerin kendi popülasyonları paralel çözülür
+        if (options.autotune && (options.steadyState || options.decompose > 0)) {
+            throw new IllegalArgumentException("--autotune kararlı durum ve ayrıştırma modlarında desteklenmez");
+        }
+        // Devam edilen çalıştırma aynı kontrol noktasını güncellemeye devam eder
+        if (options.resume != null && options.checkpoint == null) {
+            options.checkpoint = options.resume;
+        }
+        return options;
+    }
+
+    // Veri seti başına bağımsız bir kopya (toplu mod)
+    public Options copy() {
+        try {
+            return (Options) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static double parseDouble(String name, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " için geçersiz sayı: " + value);
+        }
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " için geçersiz sayı: " + value);
+        }
+    }
+}
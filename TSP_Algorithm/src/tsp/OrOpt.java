@@ -0,0 +1,188 @@
+package tsp;
+
+// Or-opt: 1-3 şehirlik segmentleri (gerekirse ters çevrilmiş olarak) aday komşularının
+// yanına taşır. or3opt açıksa ek olarak keyfi uzunluktaki segmentler için ters
+// çevirmesiz segment ekleme (saf 3-opt) hamlesi denenir. Tüm hamleler değişen
+// kenarlar üzerinden sabit zamanda puanlanır; tur uzunluğu yeniden hesaplanmaz.
+public class OrOpt extends LocalSearch {
+    private static final int MAX_SEGMENT = 3;
+
+    private final boolean or3opt;
+
+    public OrOpt(TspInstance instance, TourList tour, boolean or3opt) {
+        super(instance, tour);
+        this.or3opt = or3opt;
+    }
+
+    @Override
+    public String name() {
+        return or3opt ? "or3opt" : "oropt";
+    }
+
+    @Override
+    protected double improveCity(int a) {
+        for (int dir = 0; dir < 2; dir++) {
+            boolean forward = dir == 0;
+            double delta = segmentMove(a, forward);
+            if (delta > 0) {
+                return delta;
+            }
+        }
+        if (or3opt) {
+            for (int dir = 0; dir < 2; dir++) {
+                double delta = segmentInsertion(a, dir == 0);
+                if (delta > 0) {
+                    return delta;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private int succ(int city, boolean forward) {
+        return forward ? next(city) : prev(city);
+    }
+
+    private int pred(int city, boolean forward) {
+        return forward ? prev(city) : next(city);
+    }
+
+    // Yönüne göre: a'dan c'ye giderken b'ye uğranıyor mu
+    private boolean sequence(int a, int b, int c, boolean forward) {
+        return forward ? between(a, b, c) : between(c, b, a);
+    }
+
+    // s1'den başlayan 1-3 şehirlik segmenti, s1'in aday komşusu olan bir şehrin yanına taşı
+    private double segmentMove(int s1, boolean forward) {
+        int p = pred(s1, forward);
+        int s2 = s1;
+        for (int length = 1; length <= MAX_SEGMENT; length++) {
+            if (length > 1) {
+                s2 = succ(s2, forward);
+            }
+            int nx = succ(s2, forward);
+            if (nx == p) {
+                return 0;
+            }
+
+            // Segmenti çıkarmanın kazancı: (p,s1),(s2,nx) -> (p,nx)
+            double removeGain = instance.distance(p, s1) + instance.distance(s2, nx) - instance.distance(p, nx);
+            if (removeGain <= EPSILON) {
+                continue;
+            }
+
+            for (int m = 0; m < k; m++) {
+                int c = candidates[s1 * k + m];
+                double g1 = removeGain - instance.distance(c, s1);
+                if (g1 <= EPSILON) {
+                    break;
+                }
+                movesEvaluated++;
+                if (inSegment(c, s1, s2, length, forward)) {
+                    continue;
+                }
+
+                // (c, succ(c)) kenarına ters çevirmeden: c s1..s2 e
+                int e = succ(c, forward);
+                if (e != p && !inSegment(e, s1, s2, length, forward)) {
+                    double delta = g1 + instance.distance(c, e) - instance.distance(s2, e);
+                    if (delta > EPSILON) {
+                        moveSegment(p, s1, s2, nx, c, e, false);
+                        return delta;
+                    }
+                }
+
+                // (pred(c), c) kenarına ters çevirerek: e s2..s1 c
+                e = pred(c, forward);
+                if (c != p && !inSegment(e, s1, s2, length, forward)) {
+                    double delta = g1 + instance.distance(e, c) - instance.distance(s2, e);
+                    if (delta > EPSILON) {
+                        moveSegment(p, s1, s2, nx, e, c, true);
+                        return delta;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private boolean inSegment(int city, int s1, int s2, int length, boolean forward) {
+        if (city == s1 || city == s2) {
+            return true;
+        }
+        return length == 3 && city == succ(s1, forward);
+    }
+
+    // p s1..s2 nx ... x y turunda segmenti (x,y) kenarına taşı. crossed ise x-s2 ve
+    // s1-y, değilse x-s1 ve s2-y bağlanır. Hamle ardışık 2-opt hamleleriyle uygulanır.
+    private void moveSegment(int p, int s1, int s2, int nx, int x, int y, boolean crossed) {
+        // p s1..s2 nx ... x y  ->  p x ... nx s2..s1 y
+        make2OptMove(p, s1, x, y);
+        // ->  p nx ... x s2..s1 y
+        make2OptMove(p, x, nx, s2);
+        if (!crossed) {
+            // ->  p nx ... x s1..s2 y
+            make2OptMove(x, s2, s1, y);
+        }
+        push(p);
+        push(s1);
+        push(s2);
+        push(nx);
+        push(x);
+        push(y);
+    }
+
+    // Saf 3-opt segment ekleme: a b..c d..e f  ->  a d..e b..c f
+    // Yeni kenarlar (a,d), (e,b), (c,f); d, a'nın; e, b'nin aday komşusudur.
+    private double segmentInsertion(int a, boolean forward) {
+        int b = succ(a, forward);
+        double dab = instance.distance(a, b);
+
+        for (int m = 0; m < k; m++) {
+            int d = candidates[a * k + m];
+            double g1 = dab - instance.distance(a, d);
+            if (g1 <= EPSILON) {
+                break;
+            }
+            if (d == b) {
+                continue;
+            }
+            int c = pred(d, forward);
+            double g2 = g1 + instance.distance(c, d);
+
+            for (int q = 0; q < k; q++) {
+                int e = candidates[b * k + q];
+                double g3 = g2 - instance.distance(b, e);
+                if (g3 <= EPSILON) {
+                    break;
+                }
+                movesEvaluated++;
+                // e, d..a yolunda olmalı ve f = succ(e) a olmamalı
+                if (e == a || !sequence(d, e, a, forward)) {
+                    continue;
+                }
+                int f = succ(e, forward);
+                if (f == a) {
+                    continue;
+                }
+
+                double delta = g3 + instance.distance(e, f) - instance.distance(c, f);
+                if (delta > EPSILON) {
+                    // a b..c d..e f  ->  a e..d c..b f
+                    make2OptMove(a, b, e, f);
+                    // ->  a d..e c..b f
+                    make2OptMove(a, e, d, c);
+                    // ->  a d..e b..c f
+                    make2OptMove(e, c, b, f);
+                    push(b);
+                    push(c);
+                    push(d);
+                    push(e);
+                    push(f);
+                    return delta;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -1,15 +1,21 @@
+package tsp;
+
 import java.util.*;
 
 public class Population {
     public List<Tour> tours;
 
-    public Population(List<City> cities, int size) {
+    public Population(TspInstance instance, int size, SplittableRandom rand) {
         tours = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            tours.add(new Tour(cities));
+            tours.add(new Tour(instance, rand));
         }
     }
 
+    public Population(List<Tour> tours) {
+        this.tours = tours;
+    }
+
     public Tour getFittest() {
         // Elit bireyi bulmak için sıralama yerine direkt karşılaştır
         Tour best = tours.get(0);
@@ -0,0 +1,172 @@
+package tsp;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+// Sonuç deposu (results/ klasörü):
+//   index.csv        her çalıştırma için bir satır: zaman, veri seti, maliyet, süre, tohum ve parametreler
+//   <veri seti>.tour veri setinin bilinen en iyi turu (ikili permütasyon); yalnızca daha kısa
+//                    bir tur bulunduğunda değiştirilir
+// Eski sürümlerin yazdığı results.txt yalnızca okunur: bir veri seti için .tour dosyası
+// yoksa en iyi tur oradan alınır.
+public class ResultsStore {
+    static final String DIRECTORY = "results";
+    static final String INDEX = "index.csv";
+    static final String TOUR_SUFFIX = ".tour";
+    static final String LEGACY_FILE = "results.txt";
+
+    private static final int MAGIC = 0x54535052; // "TSPR"
+    private static final int VERSION = 1;
+    private static final String HEADER = "time,instance,cities,cost,seconds,seed,localSearch,crossover,islands,"
+            + "populationSize,generations,mutationRate,improved";
+
+    // Çalıştırmayı dizine ekle; tur kayıtlı en iyiden kısaysa onu da sakla.
+    // Kayıtlı en iyi tur iyileştirildiyse true döner. Toplu modda aynı anda çağrılabilir.
+    public static synchronized boolean save(Options options, Tour best, double seconds, int populationSize, int generations,
+            double mutationRate) throws IOException {
+        Path directory = Paths.get(DIRECTORY);
+        Files.createDirectories(directory);
+
+        // Evrim sırasındaki uzunluk float mesafe matrisiyle tutulmuş olabilir; koordinatlardan yeniden hesapla
+        double cost = best.exactDistance();
+        double stored = bestCost(options.file, best.size());
+        boolean improved = !(cost >= stored);
+        if (improved) {
+            writeTour(directory.resolve(options.file + TOUR_SUFFIX), best, cost);
+        }
+
+        Path index = directory.resolve(INDEX);
+        boolean header = !Files.exists(index);
+        try (BufferedWriter writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (header) {
+                writer.write(HEADER);
+                writer.newLine();
+            }
+            writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.6f,%.3f,%d,%s,%s,%d,%d,%d,%.4f,%b",
+                    LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), options.file, best.size(),
+                    cost, seconds, options.seed, options.localSearch, options.crossover, options.islands,
+                    populationSize, generations, mutationRate, improved));
+            writer.newLine();
+        }
+        return improved;
+    }
+
+    // Verilen veri seti için kayıtlı en kısa turu döndürür; kayıt yoksa null.
+    // Yalnızca bu veri setinin geçerli bir permütasyonu olan turlar dikkate alınır.
+    public static int[] bestTour(String file, TspInstance instance) throws IOException {
+        int n = instance.size();
+        Path path = Paths.get(DIRECTORY, file + TOUR_SUFFIX);
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readInt() == MAGIC && in.readInt() == VERSION && in.readInt() == n) {
+                    in.readDouble();
+                    return Checkpoint.readOrder(in, n, n <= 65536, new boolean[n]);
+                }
+            } catch (EOFException | IllegalArgumentException e) {
+                // Yarım kalmış veya bozuk kayıt: eski sonuç dosyasına bak
+            }
+        }
+        return legacyBestTour(file, n);
+    }
+
+    // Kayıtlı en iyi turun maliyeti; kayıt yoksa, yarım kalmışsa veya bozuksa sonsuz (yeni tur üzerine yazılır).
+    // Sıralama da okunur: yalnızca bestTour'un kabul edeceği bir kaydın maliyeti yeni turu engeller.
+    static double bestCost(String file, int n) throws IOException {
+        Path path = Paths.get(DIRECTORY, file + TOUR_SUFFIX);
+        if (!Files.exists(path)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != n) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double cost = in.readDouble();
+            Checkpoint.readOrder(in, n, n <= 65536, new boolean[n]);
+            return cost;
+        } catch (EOFException | IllegalArgumentException e) {
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    private static void writeTour(Path path, Tour tour, double cost) throws IOException {
+        int n = tour.size();
+        Path temp = Paths.get(path + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeDouble(cost);
+            Checkpoint.writeOrder(out, tour.order, n <= 65536);
+        }
+        // Yarım yazılmış kayıt öncekinin yerini almasın
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Eski results.txt: "Dosya:", "Optimal maliyet:" ve "Path: a -> b -> ..." satırları
+    private static int[] legacyBestTour(String file, int n) throws IOException {
+        if (!Files.exists(Paths.get(LEGACY_FILE))) {
+            return null;
+        }
+        int[] best = null;
+        double bestCost = Double.MAX_VALUE;
+        // Türkçe karakterler eski kayıtlarda farklı kodlamalarla yazılmış olabilir;
+        // ayrıştırılan satırlar ASCII olduğu için tek baytlık kodlama yeterli
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(LEGACY_FILE), StandardCharsets.ISO_8859_1)) {
+            String current = null;
+            double cost = Double.NaN;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("Dosya: ")) {
+                    current = line.substring(7).trim();
+                    cost = Double.NaN;
+                } else if (line.startsWith("Optimal maliyet: ")) {
+                    cost = parseCost(line.substring(17).trim());
+                } else if (line.startsWith("Path: ") && file.equals(current) && cost < bestCost) {
+                    int[] order = parsePath(line.substring(6), n);
+                    if (order != null) {
+                        best = order;
+                        bestCost = cost;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static double parseCost(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    // "a -> b -> c" biçimindeki yolu ayrıştırır; permütasyon değilse null
+    private static int[] parsePath(String path, int n) {
+        String[] parts = path.split(" -> ");
+        if (parts.length != n) {
+            return null;
+        }
+        int[] order = new int[n];
+        boolean[] seen = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int city;
+            try {
+                city = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (city < 0 || city >= n || seen[city]) {
+                return null;
+            }
+            seen[city] = true;
+            order[i] = city;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,56 @@
+package tsp;
+
+// DistanceKernels'in skaler uygulaması (Vector API olmadığında)
+public class ScalarDistanceKernels implements DistanceKernels {
+    @Override
+    public String name() {
+        return "skaler";
+    }
+
+    @Override
+    public double tourLength(double[] xs, double[] ys, int[] order) {
+        int size = order.length;
+        if (size < 2) {
+            return 0;
+        }
+        double total = 0;
+        for (int i = 1; i < size; i++) {
+            total += distance(xs, ys, order[i - 1], order[i]);
+        }
+        // son şehirden ilk şehire dönüş
+        return total + distance(xs, ys, order[size - 1], order[0]);
+    }
+
+    @Override
+    public void distancesTo(double x, double y, double[] xs, double[] ys, int count, double[] out) {
+        for (int j = 0; j < count; j++) {
+            double dx = xs[j] - x;
+            double dy = ys[j] - y;
+            out[j] = Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+
+    @Override
+    public int nearest(double x, double y, double[] xs, double[] ys, boolean[] skip, int from, int to, double limit) {
+        int best = -1;
+        for (int i = from; i < to; i++) {
+            if (skip[i]) {
+                continue;
+            }
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double d = dx * dx + dy * dy;
+            if (d < limit) {
+                limit = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double distance(double[] xs, double[] ys, int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,261 @@
+package tsp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Yerel çözüm sunucusu: JVM ve JIT sıcak kalır, istekler GeneticAlgorithm'in ortak
+// havuzunda çözülür. Yalnızca 127.0.0.1 üzerinde dinler.
+//
+//   POST /solve?time=<saniye>&seed=<sayı>   gövde: data/ biçiminde koordinatlar
+//     Yanıt satır satır JSON olarak akıtılır: "accepted", "started", her iyileşmede
+//     "improved" (tur dahil), saniyede bir "progress" ve sonunda "done". Süre, çözüm
+//     başladığında işlemeye başlar; istemci bağlantıyı kapatırsa çözüm durdurulur.
+//   GET /status                             çalışan, kuyrukta, tamamlanan ve reddedilen istekler
+//
+// Aynı anda en fazla maxConcurrent istek çözülür, maxQueue istek sırada bekler;
+// fazlası 503 ile reddedilir.
+public class SolverServer {
+    static final int MAX_BODY_BYTES = 64 << 20;
+    static final double DEFAULT_TIME_SECONDS = 10;
+    static final double MAX_TIME_SECONDS = 3600;
+    static final long PROGRESS_MILLIS = 1000;
+
+    // İyileşme olmasa da kopan bağlantıların fark edilmesi için ilerleme satırları
+    private static final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "tsp-server-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Options defaults;
+    private final Semaphore admitted;   // çözülen + kuyrukta bekleyen istekler
+    private final Semaphore running;    // çözülen istekler
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final SplittableRandom seeds;
+
+    SolverServer(Options defaults) {
+        this.defaults = defaults;
+        this.admitted = new Semaphore(defaults.maxConcurrent + defaults.maxQueue);
+        this.running = new Semaphore(defaults.maxConcurrent);
+        this.seeds = new SplittableRandom(defaults.seed);
+    }
+
+    // Sunucuyu başlat ve süreç sonlandırılana kadar bekle
+    public static void run(Options options) throws IOException {
+        SolverServer server = new SolverServer(options);
+        HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                options.servePort), 0);
+        http.createContext("/solve", server::solve);
+        http.createContext("/status", server::status);
+        // İş parçacığı sayısını kabul semaforu sınırlar; reddedilen istekler hemen döner
+        http.setExecutor(Executors.newCachedThreadPool());
+        http.start();
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            http.stop(1);
+            stopped.countDown();
+        }));
+        System.out.printf("Çözüm sunucusu dinliyor: http://127.0.0.1:%d/solve (aynı anda %d, kuyruk %d)\n",
+                http.getAddress().getPort(), options.maxConcurrent, options.maxQueue);
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void solve(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                send(exchange, 405, "Yalnızca POST desteklenir");
+                return;
+            }
+            if (!admitted.tryAcquire()) {
+                rejected.incrementAndGet();
+                send(exchange, 503, "Sunucu meşgul: kuyruk dolu");
+                return;
+            }
+            try {
+                solveAdmitted(exchange);
+            } finally {
+                admitted.release();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void solveAdmitted(HttpExchange exchange) throws IOException {
+        Options options = defaults.copy();
+        options.quiet = true;
+        options.servePort = 0;
+        TspInstance instance;
+        try {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            options.timeLimitSeconds = query.containsKey("time")
+                    ? Double.parseDouble(query.get("time"))
+                    : DEFAULT_TIME_SECONDS;
+            if (!(options.timeLimitSeconds > 0 && options.timeLimitSeconds <= MAX_TIME_SECONDS)) {
+                throw new IllegalArgumentException("time 0 ile " + MAX_TIME_SECONDS + " saniye arasında olmalı");
+            }
+            synchronized (seeds) {
+                options.seed = query.containsKey("seed") ? Long.parseLong(query.get("seed")) : seeds.nextLong();
+            }
+            instance = InstanceLoader.parse(ByteBuffer.wrap(readBody(exchange)));
+            if (instance.size() < 3) {
+                throw new IllegalArgumentException("En az 3 şehir gerekli");
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException dahil
+            send(exchange, 400, e.getMessage());
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+        write(out, String.format(Locale.ROOT, "{\"event\":\"accepted\",\"cities\":%d,\"seed\":%d,\"time\":%.3f}",
+                instance.size(), options.seed, options.timeLimitSeconds));
+
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            Main.startClock(options);
+            long start = System.nanoTime();
+            write(out, "{\"event\":\"started\"}");
+            options.onImprovement = (tour, generation) ->
+                    writeOrStop(out, tourEvent("improved", generation, tour, start), options);
+            ScheduledFuture<?> progress = heartbeat.scheduleAtFixedRate(() -> writeOrStop(out,
+                    "{\"event\":\"progress\",\"elapsedMs\":" + (System.nanoTime() - start) / 1_000_000 + "}",
+                    options), PROGRESS_MILLIS, PROGRESS_MILLIS, TimeUnit.MILLISECONDS);
+
+            int n = instance.size();
+            long maxMemory = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+            int populationSize = Main.calculatePopulationSize(n, maxMemory);
+            double mutationRate = Main.calculateMutationRate(n);
+            SplittableRandom random = new SplittableRandom(options.seed);
+            Population population = new Population(instance, populationSize, random.split());
+            Tour best;
+            try {
+                best = GeneticAlgorithm.evolve(population, Main.calculateGenerations(n, options), mutationRate,
+                        options, random.split());
+            } finally {
+                progress.cancel(false);
+            }
+            write(out, tourEvent("done", -1, best, start));
+            completed.incrementAndGet();
+        } finally {
+            running.release();
+        }
+    }
+
+    private void status(HttpExchange exchange) throws IOException {
+        try {
+            int solving = defaults.maxConcurrent - running.availablePermits();
+            int inServer = defaults.maxConcurrent + defaults.maxQueue - admitted.availablePermits();
+            String json = String.format("{\"running\":%d,\"queued\":%d,\"completed\":%d,\"rejected\":%d}",
+                    solving, Math.max(0, inServer - solving), completed.get(), rejected.get());
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String tourEvent(String event, int generation, Tour tour, long start) {
+        int[] order = tour.order;
+        StringBuilder json = new StringBuilder(32 + order.length * 7);
+        json.append("{\"event\":\"").append(event).append('"');
+        if (generation >= 0) {
+            json.append(",\"generation\":").append(generation);
+        }
+        json.append(",\"cost\":").append(tour.exactDistance());
+        json.append(",\"elapsedMs\":").append((System.nanoTime() - start) / 1_000_000);
+        json.append(",\"tour\":[");
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(order[i]);
+        }
+        return json.append("]}").toString();
+    }
+
+    // Satırlar çözüm ve ilerleme iş parçacıklarından yazılır
+    private static void write(Writer out, String line) throws IOException {
+        synchronized (out) {
+            out.write(line);
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    private static void writeOrStop(Writer out, String line, Options options) {
+        try {
+            write(out, line);
+        } catch (IOException e) {
+            // İstemci bağlantıyı kapattı: çözümü hemen bitir
+            options.deadlineNanos = Deadline.at(System.nanoTime());
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                if (body.size() + read > MAX_BODY_BYTES) {
+                    throw new IllegalArgumentException("İstek gövdesi çok büyük");
+                }
+                body.write(chunk, 0, read);
+            }
+            return body.toByteArray();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> values = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return values;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+
+    private static void send(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+}
@@ -0,0 +1,288 @@
+package tsp;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+// Kararlı durum (steady-state) modeli: nesil bariyeri yoktur. Her işçi iş parçacığı ortak
+// popülasyondan ebeveyn seçer, çocuğu üretip yerel aramadan geçirir ve ters turnuvayla
+// seçilen daha kötü bir bireyin yuvasına CAS ile yazar. Yerel arama süresi çocuktan çocuğa
+// çok değişse de hiçbir iş parçacığı en yavaş çocuğu beklemez.
+// Yuvalara yazılan turlar bir daha değiştirilmez; okuyucular kilitsiz okur. İş parçacıklarının
+// sırası her çalıştırmada farklı olduğundan aynı tohum aynı sonucu vermez.
+public class SteadyState {
+    // CAS çakışmasında (yuva başka bir işçi tarafından değiştirildi) çocuğun denediği en fazla yuva
+    private static final int REPLACE_ATTEMPTS = 3;
+
+    private final AtomicReferenceArray<Tour> slots;
+    // Şimdiye kadarki en iyi tur (yayımlanmış, değişmeyen bir tur)
+    private final AtomicReference<Tour> best;
+    // Üretilen çocuk sayısı (reddedilenler dahil); popülasyon boyutuna bölümü eşdeğer nesildir
+    private final AtomicLong produced = new AtomicLong();
+    // En iyi turun son iyileştiği andaki çocuk sayısı (erken sonlandırma için)
+    private final AtomicLong lastImprovement = new AtomicLong();
+    private volatile boolean stop;
+    // Erken sonlandırma veya hedef optimallik farkı nedeniyle mi durduk
+    private volatile boolean stagnated;
+    private volatile boolean reached;
+    private final double mutationRate;
+    private final Options options;
+    private final SplittableRandom[] randoms;
+    // İşçilerin yerel arama motorları (i. işçi i. alanı kullanır)
+    private final GeneticAlgorithm.Workspaces workspaces;
+    // Bu çalıştırmanın ölçümleri; run çağrısında atanır, işçiler gönderilmeden önce
+    private Metrics metrics;
+
+    public SteadyState(Population pop, int workerCount, double mutationRate, Options options,
+            GeneticAlgorithm.Workspaces workspaces, SplittableRandom rand) {
+        int size = pop.tours.size();
+        this.slots = new AtomicReferenceArray<>(size);
+        for (int i = 0; i < size; i++) {
+            Tour tour = pop.tours.get(i);
+            // Tembel alanlar yayımlanmadan önce hesaplanır: okuyucular yalnızca okur
+            tour.getDistance();
+            tour.getHash();
+            slots.set(i, tour);
+        }
+        this.best = new AtomicReference<>(pop.getFittest());
+        this.mutationRate = mutationRate;
+        this.options = options;
+        this.workspaces = workspaces;
+        this.randoms = new SplittableRandom[Math.max(1, Math.min(workerCount, size))];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = rand.split();
+        }
+    }
+
+    public int workers() {
+        return randoms.length;
+    }
+
+    // Eşdeğer nesil sayısı: üretilen çocuk / popülasyon boyutu
+    public int generation() {
+        return (int) Math.min(Integer.MAX_VALUE, produced.get() / slots.length());
+    }
+
+    // En fazla generations eşdeğer nesil, süre sınırı veya maxNoImprovement eşdeğer nesil boyunca
+    // iyileşme olmayana kadar evril. Çağıran iş parçacığı da işçidir ve ayrıca koordinatördür:
+    // ilerleme çıktısı, ölçümler ve iyileşme bildirimleri çocuklarının arasında onun tarafından yapılır.
+    // bound null değilse koordinatör iyileşmeleri alt sınıra bildirir ve hedef farka ulaşınca durdurur.
+    public Tour run(int generations, int maxNoImprovement, Metrics metrics, LowerBound bound, ExecutorService executor) {
+        this.metrics = metrics;
+        int size = slots.length();
+        long budget = (long) generations * size;
+        long patience = (long) maxNoImprovement * size;
+
+        List<Future<?>> futures = new ArrayList<>(randoms.length - 1);
+        for (int i = 1; i < randoms.length; i++) {
+            int worker = i;
+            futures.add(executor.submit(() -> work(worker, budget, patience, false, null, generations)));
+        }
+        try {
+            work(0, budget, patience, true, bound, generations);
+        } finally {
+            stop = true;
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Kararlı durum evrimi başarısız oldu", e.getCause());
+            }
+        }
+        if (stagnated) {
+            GeneticAlgorithm.log(options, "\nSonlandırma: %d nesil boyunca anlamlı iyileşme olmadı.",
+                    patience / size);
+        }
+        if (reached) {
+            GeneticAlgorithm.log(options, "\nSonlandırma: optimallik farkı %%%.3f, hedef %%%.3f",
+                    bound.gap(best.get().exactDistance()), options.targetGap);
+        }
+        return best.get();
+    }
+
+    // İşçi döngüsü; coordinator true ise ilerleme, ölçüm ve bildirimler bu iş parçacığındadır
+    private void work(int worker, long budget, long patience, boolean coordinator, LowerBound bound,
+            int generations) {
+        SplittableRandom rand = randoms[worker];
+        GeneticAlgorithm.Workspace workspace = workspaces.get(worker);
+        Crossover crossover = workspace.crossover;
+        Tour reported = best.get();
+        // Alt sınırla karşılaştırılan tam uzunluk (float matris uzunluğu değil); iyileşmede güncellenir
+        double exact = coordinator && bound != null ? reported.exactDistance() : 0;
+        int recorded = 0;
+        long start = System.nanoTime();
+        try {
+            while (!stop && !GeneticAlgorithm.expired(options)) {
+                long n = produced.incrementAndGet();
+                if (n > budget) {
+                    break;
+                }
+                if (n - lastImprovement.get() > patience) {
+                    stagnated = true;
+                    break;
+                }
+                breed(crossover, workspace, rand, n);
+
+                if (coordinator) {
+                    Tour current = best.get();
+                    int gen = generation();
+                    if (current != reported && options.onImprovement != null) {
+                        options.onImprovement.accept(current, gen);
+                    }
+                    if (bound != null) {
+                        if (current != reported) {
+                            exact = current.exactDistance();
+                        }
+                        bound.offer(exact);
+                        if (bound.gap(exact) <= options.targetGap) {
+                            reached = true;
+                            break;
+                        }
+                    }
+                    // Ölçümler her eşdeğer nesilde yazılır (ada modelindeki gibi nesil başına bir satır)
+                    if (gen != recorded) {
+                        metrics.record(gen, metrics.enabled ? tours() : null, current);
+                    }
+                    // Her 100 eşdeğer nesilde bir log yaz
+                    if (!options.quiet && gen / 100 != recorded / 100) {
+                        List<Tour> tours = tours();
+                        GeneticAlgorithm.log(options, "\nNesil %s - En iyi maliyet: %.2f, farklı birey: %d/%d (%.1f sn)%s",
+                                GeneticAlgorithm.generationText(gen, generations), current.getDistance(), GeneticAlgorithm.distinctTours(tours),
+                                tours.size(), (System.nanoTime() - start) / 1e9, GeneticAlgorithm.gapText(bound, current));
+                    }
+                    reported = current;
+                    recorded = gen;
+                }
+            }
+        } finally {
+            // Bir işçi bitince (bütçe, süre, hata) diğerleri de mevcut çocuklarından sonra durur
+            stop = true;
+        }
+        if (coordinator && best.get() != reported && options.onImprovement != null) {
+            options.onImprovement.accept(best.get(), generation());
+        }
+    }
+
+    // Tek çocuk: seçim, çaprazlama, mutasyon, yerel arama ve yerleştirme
+    private void breed(Crossover crossover, GeneticAlgorithm.Workspace workspace, SplittableRandom rand, long n) {
+        boolean timed = metrics.enabled;
+        long t0 = timed ? System.nanoTime() : 0;
+        Tour parent1 = select(rand);
+        Tour parent2 = select(rand);
+        long t1 = timed ? System.nanoTime() : 0;
+
+        Tour child = crossover.cross(options.crossover, parent1, parent2, rand);
+        long t2 = timed ? System.nanoTime() : 0;
+        if (rand.nextDouble() < mutationRate) {
+            child.mutate(rand, workspace.position);
+        }
+        // Kopya çocuk: bir mutasyonla farklılaştırmayı dene, yine kopyaysa yerel aramaya girmeden at
+        boolean duplicate = false;
+        // Uzunluğu artımlı bilinmeyen çocuk yerleştirmede tam değerlendirilir
+        boolean evaluated = false;
+        if (contains(child.getHash())) {
+            child.mutate(rand, workspace.position);
+            duplicate = contains(child.getHash());
+        }
+        long t3 = timed ? System.nanoTime() : 0;
+
+        if (!duplicate) {
+            GeneticAlgorithm.localOptimization(child, null, options, workspace, metrics);
+            // Yerel arama farklı çocukları aynı yerel optimuma götürebilir
+            duplicate = contains(child.getHash());
+            evaluated = !duplicate && !child.isEvaluated();
+            if (!duplicate && replace(child, rand)) {
+                offerBest(child, n);
+            }
+        }
+        if (duplicate) {
+            metrics.duplicates.increment();
+        }
+
+        if (timed) {
+            long t4 = System.nanoTime();
+            metrics.selectionNanos.add(t1 - t0);
+            metrics.crossoverNanos.add(t2 - t1);
+            metrics.mutationNanos.add(t3 - t2);
+            metrics.localSearchNanos.add(t4 - t3);
+            metrics.children.increment();
+            if (evaluated) {
+                metrics.evaluations.increment();
+            }
+        }
+    }
+
+    // Turnuva seçimi (yuvalar kilitsiz okunur)
+    private Tour select(SplittableRandom rand) {
+        int size = slots.length();
+        Tour best = slots.get(rand.nextInt(size));
+        for (int i = 1; i < GeneticAlgorithm.TOURNAMENT_SIZE; i++) {
+            Tour current = slots.get(rand.nextInt(size));
+            if (current.getDistance() < best.getDistance()) {
+                best = current;
+            }
+        }
+        return best;
+    }
+
+    // Ters turnuvayla seçilen en kötü bireyin yerine, çocuk ondan kısaysa CAS ile yaz.
+    // Yuva arada değiştiyse başka bir yuva denenir; en iyi tur hiçbir zaman yerinden edilmez.
+    private boolean replace(Tour child, SplittableRandom rand) {
+        int size = slots.length();
+        double distance = child.getDistance();
+        for (int attempt = 0; attempt < REPLACE_ATTEMPTS; attempt++) {
+            int slot = rand.nextInt(size);
+            Tour victim = slots.get(slot);
+            for (int i = 1; i < GeneticAlgorithm.TOURNAMENT_SIZE; i++) {
+                int candidate = rand.nextInt(size);
+                Tour current = slots.get(candidate);
+                if (current.getDistance() > victim.getDistance()) {
+                    slot = candidate;
+                    victim = current;
+                }
+            }
+            if (distance >= victim.getDistance()) {
+                return false;
+            }
+            if (slots.compareAndSet(slot, victim, child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // En iyi turu kilitsiz güncelle
+    private void offerBest(Tour child, long n) {
+        Tour current = best.get();
+        while (child.getDistance() < current.getDistance()) {
+            if (best.compareAndSet(current, child)) {
+                lastImprovement.accumulateAndGet(n, Math::max);
+                return;
+            }
+            current = best.get();
+        }
+    }
+
+    // Aynı kenar kümesine sahip bir tur popülasyonda var mı (yerel aramaya göre ucuz doğrusal tarama).
+    // İki işçi aynı turu aynı anda yerleştirebilir; seyrek olduğu için kabul edilir.
+    private boolean contains(long hash) {
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i).getHash() == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Popülasyonun anlık görüntüsü
+    public List<Tour> tours() {
+        List<Tour> tours = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            tours.add(slots.get(i));
+        }
+        return tours;
+    }
+}
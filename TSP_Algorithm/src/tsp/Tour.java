@@ -0,0 +1,303 @@
+package tsp;
+
+import java.util.*;
+
+public class Tour {
+    public final TspInstance instance;
+    // Ziyaret sırası: şehir indekslerinin permütasyonu
+    public int[] order;
+    // Tur uzunluğu; bilinmiyorsa NaN (0 geçerli bir uzunluk olabileceği için işaret olarak kullanılmaz).
+    // Mutasyonlar ve yerel arama hamleleri uzunluğu değişen kenarlar üzerinden günceller.
+    private double distance = Double.NaN;
+    // Kenar kümesinin sıradan, başlangıç şehrinden ve yönden bağımsız özeti: yönsüz
+    // kenarların karma değerlerinin XOR'u (Zobrist). Aynı turlar aynı özeti verir.
+    // Mutasyonlar değişen kenarlar üzerinden günceller; 0: bilinmiyor.
+    private long hash;
+    // Rastgele bir tur; rastgelelik çağıranın (ada/iş parçacığı) akışından gelir
+    public Tour(TspInstance instance, SplittableRandom rand) {
+        this.instance = instance;
+        int n = instance.size();
+        this.order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        shuffle(order, rand);
+    }
+
+    // Verilen sıralamanın kopyasıyla bir tur
+    public Tour(TspInstance instance, int[] order) {
+        this.instance = instance;
+        this.order = order.clone();
+    }
+
+    private Tour(int[] order, TspInstance instance) {
+        this.instance = instance;
+        this.order = order;
+    }
+
+    // Verilen diziyi kopyalamadan sahiplenir (yalnızca yeni üretilmiş diziler için)
+    static Tour wrap(TspInstance instance, int[] order) {
+        return new Tour(order, instance);
+    }
+
+    // Aynı sıralamaya sahip bağımsız bir kopya (hesaplanmış mesafe korunur)
+    public Tour copy() {
+        Tour copy = new Tour(instance, order);
+        copy.distance = distance;
+        copy.hash = hash;
+        return copy;
+    }
+
+    // Aynı veri setindeki başka bir turu bu turun dizisine kopyala (ayırma yok)
+    public void copyFrom(Tour other) {
+        System.arraycopy(other.order, 0, order, 0, order.length);
+        distance = other.distance;
+        hash = other.hash;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    public double getDistance() {
+        if (Double.isNaN(distance)) {
+            distance = computeDistance();
+        }
+        return distance;
+    }
+
+    // Tam O(n) değerlendirme; yalnızca uzunluğu bilinmeyen (örn. çaprazlama ile üretilmiş) turlar için.
+    // Artımlı güncellemeler (mutasyon, yerel arama, GPX) mesafe stratejisini kullandığından tam
+    // değerlendirme de aynı ölçüyle yapılır; aksi halde saklanan uzunluk nesiller boyunca kayar.
+    // Strateji tam ise koordinatlardan (SIMD çekirdekleriyle), float matriste matristen toplanır.
+    public double computeDistance() {
+        if (instance.distances.exact()) {
+            return exactDistance();
+        }
+        int size = order.length;
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += instance.distance(order[i], order[i + 1 == size ? 0 : i + 1]);
+        }
+        return total;
+    }
+
+    // Koordinatlardan tam uzunluk: raporlanan, kaydedilen ve alt sınırla karşılaştırılan değer
+    public double exactDistance() {
+        return instance.kernels.tourLength(instance.xs, instance.ys, order);
+    }
+
+    // Kenar kümesi özeti (gerekirse O(n) hesaplanır); hiçbir zaman 0 değildir
+    public long getHash() {
+        if (hash == 0) {
+            hash = computeHash();
+        }
+        return hash;
+    }
+
+    long computeHash() {
+        int size = order.length;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total ^= edgeHash(order[i], order[i + 1 == size ? 0 : i + 1]);
+        }
+        // 0 "bilinmiyor" anlamına gelir
+        return total == 0 ? 1 : total;
+    }
+
+    // Sıra yerinde değiştiğinde (örn. yerel arama) özet yeniden hesaplanır
+    public void resetHash() {
+        this.hash = 0;
+    }
+
+    // Yönsüz (a, b) kenarının karma değeri (SplitMix64 karıştırıcısı; tablo gerekmez)
+    static long edgeHash(int a, int b) {
+        long key = a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+        key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+        return key ^ (key >>> 31);
+    }
+
+    // Kenar değişikliğini özete uygula; sonuç 0 olursa özet bilinmiyor sayılır ve yeniden hesaplanır
+    private void adjustHash(long delta) {
+        if (hash != 0) {
+            hash ^= delta;
+        }
+    }
+
+    // Uzunluğu başka yoldan bilinen turlar için (örn. GPX çocuğu)
+    void setDistance(double distance) {
+        this.distance = distance;
+    }
+
+    public boolean isEvaluated() {
+        return !Double.isNaN(distance);
+    }
+
+    // Uzunluk biliniyorsa değişen kenarların farkı kadar güncelle (NaN ise NaN kalır)
+    public void adjustDistance(double delta) {
+        distance += delta;
+    }
+
+    // position: çağıranın (ada/işçi çalışma alanı) şehir -> konum dizisi. Başka bir turdan kalmış
+    // olabilir; kullanılan konum tek okumayla doğrulanır, tutmazsa dizi bu turdan yeniden kurulur.
+    // Mutasyon yerini değiştirdiği şehirleri günceller, aynı tura art arda mutasyonlar O(1) arar.
+    public void mutate(SplittableRandom rand, int[] position) {
+        double mutationType = rand.nextDouble();
+
+        // Mutasyonlar rastgele bir şehri aday komşularından birine bağlar,
+        // böylece yalnızca geometrik olarak makul kenarlar üretilir
+        int size = order.length;
+        int k = instance.candidateCount;
+        if (size < 3 || k == 0) {
+            return;
+        }
+        int i = rand.nextInt(size);
+        int city = order[i];
+        int neighbor = instance.candidates[city * k + rand.nextInt(k)];
+        int j = position[neighbor];
+        if (j >= size || order[j] != neighbor) {
+            for (int p = 0; p < size; p++) {
+                position[order[p]] = p;
+            }
+            j = position[neighbor];
+        }
+
+        // %50 swap, %50 reverse
+        if (mutationType < 0.5) {
+            // Swap mutasyonu: Komşuyu şehrin hemen arkasına taşı
+            int next = (i + 1) % size;
+            if (next != j) { // Zaten ardışık değilse devam et
+                if (isEvaluated()) {
+                    adjustDistance(swapDelta(next, j));
+                }
+                adjustHash(swapHash(next, j));
+                order[j] = order[next];
+                order[next] = neighbor;
+                position[order[j]] = j;
+                position[neighbor] = next;
+            }
+        } else {
+            // Reverse mutasyonu: Şehir ile komşusu arasındaki segmenti tersine çevir
+            int start = Math.min(i, j) + 1;
+            int end = Math.max(i, j);
+            if (start < end) {
+                if (isEvaluated()) {
+                    adjustDistance(reverseDelta(start, end));
+                }
+                adjustHash(reverseHash(start, end));
+                reverse(order, start, end);
+                for (int p = start; p <= end; p++) {
+                    position[order[p]] = p;
+                }
+            }
+        }
+    }
+
+    // Order Crossover (OX); tek seferlik çağrılar için. Döngüler çalışma alanındaki örneği kullanır.
+    public static Tour crossover(Tour parent1, Tour parent2, SplittableRandom rand) {
+        return new Crossover(parent1.instance).orderCrossover(parent1, parent2, rand);
+    }
+
+    public String getPath() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < order.length; i++) {
+            sb.append(order[i]);
+            if (i != order.length - 1)
+                sb.append(" -> ");
+        }
+        return sb.toString();
+    }
+
+    public void resetDistance() {
+        this.distance = Double.NaN;
+    }
+
+    // [l, r] aralığını tersine çevirmenin uzunluğa etkisi (yalnızca iki uç kenar değişir)
+    private double reverseDelta(int l, int r) {
+        int size = order.length;
+        if (r - l + 1 >= size - 1) {
+            return 0; // Aynı döngü, yalnızca yön değişir
+        }
+        int before = order[l == 0 ? size - 1 : l - 1];
+        int after = order[r == size - 1 ? 0 : r + 1];
+        return instance.distance(before, order[r]) + instance.distance(order[l], after)
+                - instance.distance(before, order[l]) - instance.distance(order[r], after);
+    }
+
+    // p ve q konumlarındaki şehirleri değiştirmenin uzunluğa etkisi
+    private double swapDelta(int p, int q) {
+        int size = order.length;
+        if (size < 4) {
+            return 0; // Üç şehirli her tur aynı döngüdür
+        }
+        int pp = p == 0 ? size - 1 : p - 1;
+        int np = p == size - 1 ? 0 : p + 1;
+        int pq = q == 0 ? size - 1 : q - 1;
+        int nq = q == size - 1 ? 0 : q + 1;
+        int a = order[p];
+        int b = order[q];
+        if (np == q) { // ... x a b y ...
+            return instance.distance(order[pp], b) + instance.distance(a, order[nq])
+                    - instance.distance(order[pp], a) - instance.distance(b, order[nq]);
+        }
+        if (nq == p) { // ... x b a y ...
+            return instance.distance(order[pq], a) + instance.distance(b, order[np])
+                    - instance.distance(order[pq], b) - instance.distance(a, order[np]);
+        }
+        return instance.distance(order[pp], b) + instance.distance(b, order[np])
+                + instance.distance(order[pq], a) + instance.distance(a, order[nq])
+                - instance.distance(order[pp], a) - instance.distance(a, order[np])
+                - instance.distance(order[pq], b) - instance.distance(b, order[nq]);
+    }
+
+    // reverseDelta'nın özet karşılığı: çıkan ve giren kenarların XOR'u
+    private long reverseHash(int l, int r) {
+        int size = order.length;
+        if (r - l + 1 >= size - 1) {
+            return 0;
+        }
+        int before = order[l == 0 ? size - 1 : l - 1];
+        int after = order[r == size - 1 ? 0 : r + 1];
+        return edgeHash(before, order[l]) ^ edgeHash(order[r], after)
+                ^ edgeHash(before, order[r]) ^ edgeHash(order[l], after);
+    }
+
+    // swapDelta'nın özet karşılığı; ortak kenarlar XOR'da birbirini götürür
+    private long swapHash(int p, int q) {
+        int size = order.length;
+        if (size < 4) {
+            return 0;
+        }
+        int pp = order[p == 0 ? size - 1 : p - 1];
+        int np = order[p == size - 1 ? 0 : p + 1];
+        int pq = order[q == 0 ? size - 1 : q - 1];
+        int nq = order[q == size - 1 ? 0 : q + 1];
+        int a = order[p];
+        int b = order[q];
+        // Komşu konumlarda (np == b veya nq == a) (a, b) kenarı iki kez çıkar ve iki kez girer
+        return edgeHash(pp, a) ^ edgeHash(a, np) ^ edgeHash(pq, b) ^ edgeHash(b, nq)
+                ^ edgeHash(pp == b ? a : pp, b) ^ edgeHash(b, np == b ? a : np)
+                ^ edgeHash(pq == a ? b : pq, a) ^ edgeHash(a, nq == a ? b : nq);
+    }
+
+    // [i, j] aralığını (iki uç dahil) yerinde tersine çevir
+    static void reverse(int[] order, int i, int j) {
+        while (i < j) {
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+            i++;
+            j--;
+        }
+    }
+
+    private static void shuffle(int[] order, SplittableRandom rand) {
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package tsp;
+
+// Yerel arama motorlarının tur üzerinde kullandığı işlemler. Uygulamalar yönden
+// bağımsızdır: reverse, a'dan b'ye yolu ya da aynı döngüyü veren tamamlayıcı
+// yolu çevirebilir; sonraki next/prev çağrıları her zaman tutarlıdır.
+public interface TourList {
+    // Turu verilen sıralamadan kur
+    void load(int[] order);
+
+    // Güncel turu verilen diziye yaz
+    void store(int[] order);
+
+    int next(int city);
+
+    int prev(int city);
+
+    // İleri yönde a'dan c'ye giderken b'ye uğranıyor mu (uçlar dahil)
+    boolean between(int a, int b, int c);
+
+    // İleri yönde from'dan to'ya giden yolu tersine çevir
+    void reverse(int from, int to);
+}
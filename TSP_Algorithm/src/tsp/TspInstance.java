@@ -0,0 +1,50 @@
+package tsp;
+
+public class TspInstance {
+    // Koordinatlar şehir indeksine göre tek bir kez, ilkel dizilerde tutulur.
+    // Tüm turlar bu dizileri paylaşır; turlar yalnızca int[] permütasyon taşır.
+    public final double[] xs;
+    public final double[] ys;
+    // Şehir başına aday komşu sayısı
+    public static final int CANDIDATES = 10;
+
+    public final KdTree tree;
+    // Her şehrin en yakın candidateCount komşusu, artan mesafe sırasıyla:
+    // şehir i için [i * candidateCount, (i + 1) * candidateCount) dilimi.
+    // Bir kez hesaplanır ve tüm iş parçacıklarınca salt okunur paylaşılır.
+    public final int[] candidates;
+    public final int candidateCount;
+    // Veri seti boyutuna göre seçilen mesafe stratejisi (iş parçacıkları arasında paylaşılır)
+    public final DistanceOracle distances;
+    // Toplu mesafe hesapları (SIMD veya skaler)
+    public final DistanceKernels kernels;
+
+    public TspInstance(double[] xs, double[] ys) {
+        this(xs, ys, DistanceKernels.INSTANCE);
+    }
+
+    public TspInstance(double[] xs, double[] ys, DistanceKernels kernels) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Koordinat dizilerinin uzunlukları farklı: " + xs.length + " / " + ys.length);
+        }
+        this.xs = xs;
+        this.ys = ys;
+        this.kernels = kernels;
+        this.tree = new KdTree(xs, ys, kernels);
+        this.candidates = tree.nearestNeighbors(CANDIDATES);
+        this.candidateCount = xs.length == 0 ? 0 : candidates.length / xs.length;
+        this.distances = DistanceOracle.create(xs, ys, candidates, candidateCount, kernels);
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public double distance(int i, int j) {
+        return distances.distance(i, j);
+    }
+
+    public City city(int i) {
+        return new City(xs[i], ys[i], i);
+    }
+}
@@ -0,0 +1,215 @@
+package tsp;
+
+// İki seviyeli tur listesi: tur, yaklaşık √n uzunluğunda segmentlere bölünür.
+// Her segment ortak bir depolama dizisinde bir dilimdir ve kendi ters çevrilme
+// bitini taşır; segmentlerin tur sırası ayrı bir dizide tutulur. next/prev/between
+// O(1), reverse O(√n): yolun uçları segment sınırına gelecek şekilde segmentler
+// bölünür, ardından yalnızca segment sırası ve ters bitleri çevrilir. Bölünmelerle
+// segment sayısı iki katına çıkınca liste baştan dengeli olarak kurulur.
+public class TwoLevelTourList implements TourList {
+    private final int n;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    // Şehir düzeyi
+    private final int[] store;      // segment dilimlerinin ortak depolama dizisi
+    private final int[] index;      // şehir -> store içindeki konum
+    private final int[] segmentOf;  // şehir -> segment
+
+    // Segment düzeyi
+    private final int[] start;      // store içindeki dilimin başı
+    private final int[] length;
+    private final boolean[] reversed;
+    private final int[] rank;       // segment -> segment sırasındaki konum
+    private final int[] sequence;   // segment sırası: konum -> segment
+    private int segments;
+
+    private final int[] buffer;
+
+    public TwoLevelTourList(int size) {
+        this.n = size;
+        this.segmentSize = Math.max(8, (int) Math.sqrt(size));
+        int initial = (size + segmentSize - 1) / segmentSize;
+        this.maxSegments = 2 * initial + 4;
+        this.store = new int[size];
+        this.index = new int[size];
+        this.segmentOf = new int[size];
+        this.start = new int[maxSegments];
+        this.length = new int[maxSegments];
+        this.reversed = new boolean[maxSegments];
+        this.rank = new int[maxSegments];
+        this.sequence = new int[maxSegments];
+        this.buffer = new int[size];
+    }
+
+    @Override
+    public void load(int[] order) {
+        segments = 0;
+        for (int from = 0; from < n; from += segmentSize) {
+            int s = segments++;
+            start[s] = from;
+            length[s] = Math.min(segmentSize, n - from);
+            reversed[s] = false;
+            rank[s] = s;
+            sequence[s] = s;
+            for (int i = from; i < from + length[s]; i++) {
+                int city = order[i];
+                store[i] = city;
+                index[city] = i;
+                segmentOf[city] = s;
+            }
+        }
+    }
+
+    @Override
+    public void store(int[] order) {
+        int p = 0;
+        for (int r = 0; r < segments; r++) {
+            int s = sequence[r];
+            for (int i = 0; i < length[s]; i++) {
+                order[p++] = cityAt(s, i);
+            }
+        }
+    }
+
+    // Segment içindeki mantıksal konum (tur yönünde)
+    private int offset(int city) {
+        int s = segmentOf[city];
+        return reversed[s] ? start[s] + length[s] - 1 - index[city] : index[city] - start[s];
+    }
+
+    private int cityAt(int s, int offset) {
+        return store[reversed[s] ? start[s] + length[s] - 1 - offset : start[s] + offset];
+    }
+
+    @Override
+    public int next(int city) {
+        int s = segmentOf[city];
+        int o = offset(city) + 1;
+        if (o < length[s]) {
+            return cityAt(s, o);
+        }
+        int r = rank[s] + 1;
+        return cityAt(sequence[r == segments ? 0 : r], 0);
+    }
+
+    @Override
+    public int prev(int city) {
+        int s = segmentOf[city];
+        int o = offset(city);
+        if (o > 0) {
+            return cityAt(s, o - 1);
+        }
+        int r = rank[s];
+        int t = sequence[r == 0 ? segments - 1 : r - 1];
+        return cityAt(t, length[t] - 1);
+    }
+
+    @Override
+    public boolean between(int a, int b, int c) {
+        long ka = key(a), kb = key(b), kc = key(c);
+        if (ka <= kc) {
+            return ka <= kb && kb <= kc;
+        }
+        return kb >= ka || kb <= kc;
+    }
+
+    // Şehrin tur içindeki sırasıyla aynı sıralamayı veren anahtar
+    private long key(int city) {
+        return (long) rank[segmentOf[city]] * n + offset(city);
+    }
+
+    @Override
+    public void reverse(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        if (segments + 2 > maxSegments) {
+            store(buffer);
+            load(buffer);
+        }
+        splitBefore(from);
+        splitBefore(next(to));
+
+        int first = rank[segmentOf[from]];
+        int last = rank[segmentOf[to]];
+        int count = last - first;
+        if (count < 0) {
+            count += segments;
+        }
+        count++;
+        if (count == segments) {
+            return; // Yol turun tamamı: döngü değişmez
+        }
+        if (count * 2 > segments) {
+            // Tamamlayıcı yolu çevirmek aynı turu verir
+            int temp = first;
+            first = last + 1 == segments ? 0 : last + 1;
+            last = temp == 0 ? segments - 1 : temp - 1;
+            count = segments - count;
+        }
+
+        int i = first;
+        int j = last;
+        for (int step = 0; step < count / 2; step++) {
+            int si = sequence[i];
+            int sj = sequence[j];
+            sequence[i] = sj;
+            rank[sj] = i;
+            sequence[j] = si;
+            rank[si] = j;
+            i = i + 1 == segments ? 0 : i + 1;
+            j = j == 0 ? segments - 1 : j - 1;
+        }
+        for (int step = 0, r = first; step < count; step++) {
+            int s = sequence[r];
+            reversed[s] = !reversed[s];
+            r = r + 1 == segments ? 0 : r + 1;
+        }
+    }
+
+    // Segmenti, city segmentin ilk şehri olacak şekilde ikiye böl. Şehir sayısı az
+    // olan parça yeni segmente taşınır; depolama dizisinde kopyalama yapılmaz.
+    private void splitBefore(int city) {
+        int s = segmentOf[city];
+        int o = offset(city);
+        if (o == 0) {
+            return;
+        }
+        int len = length[s];
+        int head = o;             // city'den önceki şehirler
+        int tail = len - o;       // city ve sonrası
+
+        // Parçaların depolama dilimleri
+        int headStart = reversed[s] ? start[s] + tail : start[s];
+        int tailStart = reversed[s] ? start[s] : start[s] + head;
+
+        int t = segments;
+        int r = rank[s];
+        boolean moveHead = head < tail;
+        if (moveHead) {
+            start[t] = headStart;
+            length[t] = head;
+            start[s] = tailStart;
+            length[s] = tail;
+        } else {
+            start[t] = tailStart;
+            length[t] = tail;
+            start[s] = headStart;
+            length[s] = head;
+            r++;
+        }
+        reversed[t] = reversed[s];
+        for (int i = start[t]; i < start[t] + length[t]; i++) {
+            segmentOf[store[i]] = t;
+        }
+
+        // Yeni segmenti sıraya ekle: baş parça s'den önce, kuyruk parça s'den sonra
+        System.arraycopy(sequence, r, sequence, r + 1, segments - r);
+        sequence[r] = t;
+        segments++;
+        for (int q = r; q < segments; q++) {
+            rank[sequence[q]] = q;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package tsp;
+
+// Aday komşu listeleri ve "don't-look bit"ler ile 2-opt yerel arama motoru
+public class TwoOpt extends LocalSearch {
+
+    public TwoOpt(TspInstance instance, TourList tour) {
+        super(instance, tour);
+    }
+
+    @Override
+    public String name() {
+        return "2opt";
+    }
+
+    @Override
+    protected double improveCity(int a) {
+        // Hem ardıl hem öncül kenarı dene
+        for (int dir = 0; dir < 2; dir++) {
+            boolean forward = dir == 0;
+            int b = forward ? next(a) : prev(a);
+            double dab = instance.distance(a, b);
+
+            for (int m = 0; m < k; m++) {
+                int c = candidates[a * k + m];
+                double g1 = dab - instance.distance(a, c);
+                if (g1 <= EPSILON) {
+                    break; // Adaylar mesafeye göre sıralı, sonrakiler de kazanç getirmez
+                }
+                movesEvaluated++;
+                int d = forward ? next(c) : prev(c);
+                if (c == b || d == a) {
+                    continue;
+                }
+
+                double delta = g1 + instance.distance(c, d) - instance.distance(b, d);
+                if (delta > EPSILON) {
+                    // (a,b),(c,d) kenarlarını (a,c),(b,d) ile değiştir
+                    make2OptMove(a, b, c, d);
+                    push(b);
+                    push(c);
+                    push(d);
+                    return delta;
+                }
+            }
+        }
+        return 0;
+    }
+}
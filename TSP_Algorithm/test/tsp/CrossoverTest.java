@@ -0,0 +1,65 @@
+package tsp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Çaprazlama çocukları her zaman geçerli permütasyondur; GPX'in doğrudan verdiği uzunluk tam değerlendirmeyle aynıdır
+class CrossoverTest {
+
+    @Test
+    void orderCrossoverChildIsPermutation() {
+        TspInstance instance = Instances.random(300, 1);
+        Crossover crossover = new Crossover(instance);
+        SplittableRandom rand = new SplittableRandom(2);
+        for (int i = 0; i < 500; i++) {
+            Tour parent1 = new Tour(instance, rand);
+            Tour parent2 = new Tour(instance, rand);
+            Tour child = crossover.orderCrossover(parent1, parent2, rand);
+            assertTrue(Instances.isPermutation(child.order, instance.size()));
+        }
+    }
+
+    @Test
+    void partitionCrossoverChildIsPermutationWithExactLength() {
+        TspInstance instance = Instances.random(300, 3);
+        Crossover crossover = new Crossover(instance);
+        SplittableRandom rand = new SplittableRandom(4);
+        // Yerel optimum ebeveynler çok sayıda ortak kenar paylaşır (GPX'in tipik girdisi)
+        Tour[] parents = new Tour[10];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = new Tour(instance, rand);
+            parents[i].getDistance();
+            GeneticAlgorithm.localOptimization(parents[i], new Options());
+        }
+        for (int i = 0; i < 300; i++) {
+            Tour parent1 = parents[rand.nextInt(parents.length)];
+            Tour parent2 = parents[rand.nextInt(parents.length)];
+            Tour child = crossover.partitionCrossover(parent1, parent2);
+            assertTrue(Instances.isPermutation(child.order, instance.size()));
+            double length = child.getDistance();
+            assertEquals(child.computeDistance(), length, Instances.tolerance(length));
+            assertTrue(length <= Math.min(parent1.getDistance(), parent2.getDistance()) + Instances.tolerance(length));
+        }
+    }
+
+    @Test
+    void crossIntoReusesTargetArray() {
+        TspInstance instance = Instances.random(200, 5);
+        Crossover crossover = new Crossover(instance);
+        SplittableRandom rand = new SplittableRandom(6);
+        Tour target = new Tour(instance, rand);
+        int[] array = target.order;
+        for (String operator : new String[]{"ox", "gpx"}) {
+            for (int i = 0; i < 100; i++) {
+                Tour parent1 = new Tour(instance, rand);
+                Tour parent2 = new Tour(instance, rand);
+                crossover.crossInto(operator, parent1, parent2, rand, target);
+                assertSame(array, target.order);
+                assertTrue(Instances.isPermutation(target.order, instance.size()));
+            }
+        }
+    }
+}
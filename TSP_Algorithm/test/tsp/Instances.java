@@ -0,0 +1,41 @@
+package tsp;
+
+import java.util.SplittableRandom;
+
+// Testler için sabit tohumlu rastgele veri setleri ve tur doğrulamaları
+final class Instances {
+    private Instances() {
+    }
+
+    // Birim karede düzgün dağılmış n şehir (boyuta göre float matris veya tam mesafe stratejisi)
+    static TspInstance random(int n, long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = rand.nextDouble() * 1000;
+            ys[i] = rand.nextDouble() * 1000;
+        }
+        return new TspInstance(xs, ys);
+    }
+
+    // Sıralama 0..n-1'in bir permütasyonu mu
+    static boolean isPermutation(int[] order, int n) {
+        if (order.length != n) {
+            return false;
+        }
+        boolean[] seen = new boolean[n];
+        for (int city : order) {
+            if (city < 0 || city >= n || seen[city]) {
+                return false;
+            }
+            seen[city] = true;
+        }
+        return true;
+    }
+
+    // Tam uzunluğun göreli hata payı (artımlı güncellemeler toplama sırasını değiştirir)
+    static double tolerance(double length) {
+        return Math.max(1e-6, Math.abs(length) * 1e-9);
+    }
+}
@@ -0,0 +1,67 @@
+package tsp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Held-Karp alt sınırı hiçbir zaman bilinen bir turun uzunluğunu aşmamalı
+class LowerBoundTest {
+
+    @Test
+    void boundDoesNotExceedOptimumOnConvexPolygon() {
+        // Dışbükey çokgende en kısa tur çevredir
+        int n = 60;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            xs[i] = 500 + 400 * Math.cos(angle);
+            ys[i] = 500 + 400 * Math.sin(angle);
+        }
+        TspInstance instance = new TspInstance(xs, ys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        double optimum = new Tour(instance, order).exactDistance();
+
+        LowerBound bound = new LowerBound(instance, optimum);
+        bound.run();
+        assertTrue(bound.bound() > 0);
+        assertTrue(bound.bound() <= optimum + Instances.tolerance(optimum));
+    }
+
+    @Test
+    void boundDoesNotExceedLocalOptimum() {
+        for (int n : new int[]{200, 1000}) {
+            TspInstance instance = Instances.random(n, 13 + n);
+            Tour tour = new Tour(instance, GeneticAlgorithm.nearestNeighborOrder(instance, 0));
+            Options options = new Options();
+            options.localSearch = "2opt+oropt";
+            GeneticAlgorithm.localOptimization(tour, options);
+            double length = tour.exactDistance();
+
+            LowerBound bound = new LowerBound(instance, length);
+            bound.run();
+            assertTrue(bound.bound() > 0);
+            assertTrue(bound.bound() <= length);
+            assertTrue(bound.gap(length) >= 0);
+        }
+    }
+
+    @Test
+    void boundStaysBelowToursOfferedDuringAscent() throws InterruptedException {
+        TspInstance instance = Instances.random(500, 17);
+        Tour tour = new Tour(instance, new SplittableRandom(18));
+        try (LowerBound bound = new LowerBound(instance, tour.exactDistance()).start()) {
+            Options options = new Options();
+            GeneticAlgorithm.localOptimization(tour, options);
+            double length = tour.exactDistance();
+            bound.offer(length);
+            Thread.sleep(200);
+            assertTrue(bound.bound() <= length);
+        }
+    }
+}
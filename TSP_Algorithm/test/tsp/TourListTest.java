@@ -0,0 +1,85 @@
+package tsp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// İki seviyeli tur listesi, aynı ters çevirme dizisinde dizi tabanlı listeyle aynı döngüyü vermeli.
+// reverse tamamlayıcı yolu çevirebildiği için iki listenin yönü farklı olabilir; karşılaştırma yönden bağımsızdır.
+class TourListTest {
+
+    @Test
+    void twoLevelMatchesArrayAfterRandomReversals() {
+        for (int n : new int[]{9, 64, 500, 2000}) {
+            SplittableRandom rand = new SplittableRandom(n);
+            int[] order = shuffled(n, rand);
+            ArrayTourList array = new ArrayTourList(n);
+            TwoLevelTourList twoLevel = new TwoLevelTourList(n);
+            array.load(order.clone());
+            twoLevel.load(order.clone());
+
+            for (int step = 0; step < 3000; step++) {
+                int from = rand.nextInt(n);
+                int to = rand.nextInt(n);
+                // Dizi listesinde from'dan to'ya giden yol, ters yönlü listede to'dan from'a gider
+                if (sameDirection(array, twoLevel, from)) {
+                    twoLevel.reverse(from, to);
+                } else {
+                    twoLevel.reverse(to, from);
+                }
+                array.reverse(from, to);
+                if (step % 100 == 0) {
+                    assertSameCycle(array, twoLevel, n, rand);
+                }
+            }
+            assertSameCycle(array, twoLevel, n, rand);
+
+            int[] stored = new int[n];
+            twoLevel.store(stored);
+            assertTrue(Instances.isPermutation(stored, n));
+            for (int i = 0; i < n; i++) {
+                assertEquals(stored[i + 1 == n ? 0 : i + 1], twoLevel.next(stored[i]));
+            }
+        }
+    }
+
+    private static boolean sameDirection(TourList a, TourList b, int city) {
+        return a.next(city) == b.next(city);
+    }
+
+    private static void assertSameCycle(TourList array, TourList twoLevel, int n, SplittableRandom rand) {
+        boolean same = sameDirection(array, twoLevel, 0);
+        for (int city = 0; city < n; city++) {
+            assertEquals(city, twoLevel.prev(twoLevel.next(city)));
+            if (same) {
+                assertEquals(array.next(city), twoLevel.next(city));
+                assertEquals(array.prev(city), twoLevel.prev(city));
+            } else {
+                assertEquals(array.next(city), twoLevel.prev(city));
+                assertEquals(array.prev(city), twoLevel.next(city));
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            int a = rand.nextInt(n);
+            int b = rand.nextInt(n);
+            int c = rand.nextInt(n);
+            assertEquals(array.between(a, b, c), same ? twoLevel.between(a, b, c) : twoLevel.between(c, b, a));
+        }
+    }
+
+    private static int[] shuffled(int n, SplittableRandom rand) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,88 @@
+package tsp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Artımlı güncellenen uzunluk ve kenar özeti, tam yeniden hesaplamayla aynı kalmalı
+class TourTest {
+
+    @Test
+    void mutationKeepsIncrementalLengthAndHash() {
+        // 300: float mesafe matrisi, 6000: aday komşu tablosu (tam mesafe)
+        for (int n : new int[]{5, 300, 6000}) {
+            TspInstance instance = Instances.random(n, n);
+            SplittableRandom rand = new SplittableRandom(7);
+            Tour tour = new Tour(instance, rand);
+            Tour other = new Tour(instance, rand);
+            tour.getDistance();
+            tour.getHash();
+            int[] position = new int[n];
+            for (int i = 0; i < 5000; i++) {
+                tour.mutate(rand, position);
+                // Konum dizisi turlar arasında paylaşılabilir
+                if (i % 7 == 0) {
+                    other.mutate(rand, position);
+                }
+                assertTrue(Instances.isPermutation(tour.order, n));
+                assertEquals(tour.computeHash(), tour.getHash());
+                double length = tour.getDistance();
+                assertEquals(tour.computeDistance(), length, Instances.tolerance(length));
+            }
+        }
+    }
+
+    @Test
+    void localSearchKeepsIncrementalLength() {
+        for (int n : new int[]{300, 6000}) {
+            TspInstance instance = Instances.random(n, n + 1);
+            for (String chain : new String[]{"2opt", "oropt", "or3opt", "2opt+oropt"}) {
+                for (int twoLevelMin : new int[]{0, 1}) {
+                    Options options = new Options();
+                    options.localSearch = chain;
+                    options.twoLevelMinCities = twoLevelMin;
+                    options.localSearchMoves = 3000;
+                    Tour tour = new Tour(instance, new SplittableRandom(8));
+                    double before = tour.getDistance();
+                    GeneticAlgorithm.localOptimization(tour, options);
+                    assertTrue(Instances.isPermutation(tour.order, n));
+                    double length = tour.getDistance();
+                    assertTrue(length < before);
+                    assertEquals(tour.computeDistance(), length, Instances.tolerance(length));
+                    assertEquals(tour.computeHash(), tour.getHash());
+                }
+            }
+        }
+    }
+
+    @Test
+    void hashIgnoresStartingCityAndDirection() {
+        TspInstance instance = Instances.random(100, 9);
+        Tour tour = new Tour(instance, new SplittableRandom(10));
+        int n = tour.size();
+        int[] rotated = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            rotated[i] = tour.order[(i + 17) % n];
+            reversed[i] = tour.order[n - 1 - i];
+        }
+        assertEquals(tour.getHash(), new Tour(instance, rotated).getHash());
+        assertEquals(tour.getHash(), new Tour(instance, reversed).getHash());
+    }
+
+    @Test
+    void exactDistanceMatchesCoordinates() {
+        TspInstance instance = Instances.random(1000, 11);
+        Tour tour = new Tour(instance, new SplittableRandom(12));
+        double expected = 0;
+        int n = tour.size();
+        for (int i = 0; i < n; i++) {
+            int a = tour.order[i];
+            int b = tour.order[(i + 1) % n];
+            expected += Math.hypot(instance.xs[a] - instance.xs[b], instance.ys[a] - instance.ys[b]);
+        }
+        assertEquals(expected, tour.exactDistance(), Instances.tolerance(expected));
+    }
+}